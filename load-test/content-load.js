@@ -0,0 +1,78 @@
+// Teste de carga de GET /api/content/{id} e POST /api/content/search.
+//
+// Uso (aplicação já rodando e com dados):
+//   k6 run -e BASE_URL=http://localhost:8081 -e MAX_ID=10000 load-test/content-load.js
+//
+// Compare as execuções com e sem o profile virtual-threads:
+//   mvn spring-boot:run
+//   mvn spring-boot:run -Dspring-boot.run.profiles=virtual-threads
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000');
+const VUS = parseInt(__ENV.VUS || '500');
+const DURATION = __ENV.DURATION || '2m';
+
+const GENRES = ['Sci-Fi', 'Drama', 'Comedy', 'Action', 'Thriller'];
+const TYPES = ['MOVIE', 'SERIES', 'MUSIC', 'PODCAST'];
+
+export const options = {
+    scenarios: {
+        getContentById: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'getContentById',
+        },
+        searchContent: {
+            executor: 'constant-vus',
+            vus: Math.max(1, Math.floor(VUS / 5)),
+            duration: DURATION,
+            exec: 'searchContent',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{scenario:getContentById}': ['p(99)<200'],
+        'http_req_duration{scenario:searchContent}': ['p(99)<500'],
+        // Submétricas por cenário para o resumo de throughput
+        'iterations{scenario:getContentById}': ['rate>0'],
+        'iterations{scenario:searchContent}': ['rate>0'],
+    },
+};
+
+export function getContentById() {
+    const id = 1 + Math.floor(Math.random() * MAX_ID);
+    const res = http.get(`${BASE_URL}/api/content/${id}`, { tags: { name: 'GET /api/content/{id}' } });
+    check(res, { 'status is 200, 404 or 503': (r) => [200, 404, 503].includes(r.status) });
+}
+
+export function searchContent() {
+    const body = JSON.stringify({
+        genre: GENRES[Math.floor(Math.random() * GENRES.length)],
+        contentType: TYPES[Math.floor(Math.random() * TYPES.length)],
+        minRating: Math.floor(Math.random() * 8),
+    });
+    const res = http.post(`${BASE_URL}/api/content/search?page=0&size=20`, body, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'POST /api/content/search' },
+    });
+    check(res, { 'status is 200 or 503': (r) => [200, 503].includes(r.status) });
+}
+
+export function handleSummary(data) {
+    return {
+        stdout: JSON.stringify({
+            getContentById: {
+                rps: data.metrics['iterations{scenario:getContentById}'].values.rate,
+                p99: data.metrics['http_req_duration{scenario:getContentById}'].values['p(99)'],
+            },
+            searchContent: {
+                rps: data.metrics['iterations{scenario:searchContent}'].values.rate,
+                p99: data.metrics['http_req_duration{scenario:searchContent}'].values['p(99)'],
+            },
+        }, null, 2) + '\n',
+        'load-test/summary.json': JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,140 @@
+// Compara o Web MVC (padrão) com a variante WebFlux + R2DBC sob 10k requisições simultâneas:
+// além de throughput e p99, amostra /actuator/prometheus durante o teste e reporta o pico de
+// conexões ao banco, threads e heap.
+//
+// Uso (aplicação já rodando e com dados; rode uma vez contra cada modo):
+//   mvn spring-boot:run
+//   mvn -Preactive spring-boot:run -Dspring-boot.run.profiles=reactive
+//   k6 run -e BASE_URL=http://localhost:8081 -e MAX_ID=10000 -e STACK=mvc load-test/stack-comparison.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e MAX_ID=10000 -e STACK=reactive load-test/stack-comparison.js
+//
+// 10k VUs pedem `ulimit -n` alto no gerador de carga e no servidor.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000');
+const VUS = parseInt(__ENV.VUS || '10000');
+const DURATION = __ENV.DURATION || '2m';
+const STACK = __ENV.STACK || 'mvc';
+
+const GENRES = ['Sci-Fi', 'Drama', 'Comedy', 'Action', 'Thriller'];
+
+// Conexões JDBC (Hikari) + R2DBC em uso: no Web MVC o pool R2DBC não existe e soma zero
+const dbConnections = new Trend('server_db_connections_in_use');
+const liveThreads = new Trend('server_live_threads');
+const heapUsed = new Trend('server_heap_used_mb');
+
+export const options = {
+    scenarios: {
+        getContentById: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+            ],
+            exec: 'getContentById',
+        },
+        searchContent: {
+            executor: 'constant-vus',
+            vus: Math.max(1, Math.floor(VUS / 10)),
+            duration: DURATION,
+            startTime: '30s',
+            exec: 'searchContent',
+        },
+        serverMetrics: {
+            executor: 'constant-arrival-rate',
+            rate: 1,
+            timeUnit: '2s',
+            duration: `${parseDuration(DURATION) + 30}s`,
+            preAllocatedVUs: 1,
+            exec: 'sampleServerMetrics',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Sem limites de aprovação: só criam as submétricas por cenário usadas no resumo
+    thresholds: {
+        'iterations{scenario:getContentById}': ['rate>0'],
+        'iterations{scenario:searchContent}': ['rate>0'],
+        'http_req_failed{scenario:getContentById}': ['rate>=0'],
+        'http_req_duration{scenario:getContentById}': ['p(99)>=0'],
+        'http_req_duration{scenario:searchContent}': ['p(99)>=0'],
+    },
+};
+
+export function getContentById() {
+    const id = 1 + Math.floor(Math.random() * MAX_ID);
+    const res = http.get(`${BASE_URL}/api/content/${id}`, { tags: { name: 'GET /api/content/{id}' } });
+    check(res, { 'status is 200 or 404': (r) => [200, 404].includes(r.status) });
+}
+
+export function searchContent() {
+    const body = JSON.stringify({
+        genre: GENRES[Math.floor(Math.random() * GENRES.length)],
+        minRating: Math.floor(Math.random() * 8),
+    });
+    const res = http.post(`${BASE_URL}/api/content/search?page=0&size=20`, body, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'POST /api/content/search' },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function sampleServerMetrics() {
+    const res = http.get(`${BASE_URL}/actuator/prometheus`, { tags: { name: 'GET /actuator/prometheus' } });
+    if (res.status !== 200) {
+        return;
+    }
+    dbConnections.add(sum(res.body, 'hikaricp_connections_active') + sum(res.body, 'r2dbc_pool_acquired_connections'));
+    liveThreads.add(sum(res.body, 'jvm_threads_live_threads'));
+    heapUsed.add(sum(res.body, 'jvm_memory_used_bytes', 'area="heap"') / (1024 * 1024));
+}
+
+// Soma as séries de uma métrica no formato texto do Prometheus (todas as pools/áreas que casarem)
+function sum(body, metric, labelFilter) {
+    let total = 0;
+    for (const line of body.split('\n')) {
+        if (!line.startsWith(metric + '{') && !line.startsWith(metric + ' ')) {
+            continue;
+        }
+        if (labelFilter && !line.includes(labelFilter)) {
+            continue;
+        }
+        total += parseFloat(line.substring(line.lastIndexOf(' ') + 1));
+    }
+    return total;
+}
+
+function parseDuration(duration) {
+    const value = parseInt(duration);
+    return duration.endsWith('m') ? value * 60 : value;
+}
+
+function values(data, metric) {
+    return data.metrics[metric] ? data.metrics[metric].values : {};
+}
+
+export function handleSummary(data) {
+    return {
+        stdout: JSON.stringify({
+            stack: STACK,
+            getContentById: {
+                rps: values(data, 'iterations{scenario:getContentById}').rate,
+                p99: values(data, 'http_req_duration{scenario:getContentById}')['p(99)'],
+                failedRate: values(data, 'http_req_failed{scenario:getContentById}').rate,
+            },
+            searchContent: {
+                rps: values(data, 'iterations{scenario:searchContent}').rate,
+                p99: values(data, 'http_req_duration{scenario:searchContent}')['p(99)'],
+            },
+            server: {
+                maxDbConnectionsInUse: values(data, 'server_db_connections_in_use').max,
+                maxLiveThreads: values(data, 'server_live_threads').max,
+                maxHeapUsedMb: values(data, 'server_heap_used_mb').max,
+            },
+        }, null, 2) + '\n',
+        [`load-test/summary-${STACK}.json`]: JSON.stringify(data, null, 2),
+    };
+}
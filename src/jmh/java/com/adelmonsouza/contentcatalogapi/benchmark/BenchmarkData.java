@@ -0,0 +1,64 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Dados sintéticos determinísticos compartilhados pelos benchmarks.
+ */
+final class BenchmarkData {
+
+    static final String[] GENRES = {"Sci-Fi", "Drama", "Comedy", "Action", "Thriller", "Documentary", "Jazz", "Rock"};
+    private static final String DESCRIPTION = "A hacker learns about the true nature of reality and his role in the war against its controllers. ".repeat(4);
+
+    private BenchmarkData() {
+    }
+
+    static Content content(long id) {
+        Random random = new Random(id);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id);
+        return Content.builder()
+            .id(id)
+            .title("Title " + id)
+            .description(DESCRIPTION)
+            .contentType(ContentType.values()[(int) (id % ContentType.values().length)])
+            .genre(GENRES[random.nextInt(GENRES.length)])
+            .releaseYear(1950 + random.nextInt(75))
+            .rating(random.nextInt(10) == 0 ? null : Math.round(random.nextDouble() * 100) / 10.0)
+            .durationMinutes(20 + random.nextInt(160))
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    static List<Content> contents(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(BenchmarkData::content).toList();
+    }
+
+    static List<ContentResponseDTO> responses(int count) {
+        return contents(count).stream().map(ContentMapper::toResponseDTO).toList();
+    }
+
+    static List<ContentCreateDTO> createRequests(int from, int count) {
+        return IntStream.range(from, from + count)
+            .mapToObj(BenchmarkData::content)
+            .map(content -> ContentCreateDTO.builder()
+                .title(content.getTitle())
+                .description(content.getDescription())
+                .contentType(content.getContentType())
+                .genre(content.getGenre())
+                .releaseYear(content.getReleaseYear())
+                .rating(content.getRating())
+                .durationMinutes(content.getDurationMinutes())
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,167 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Antes/depois dos índices da migração V3, com milhões de linhas num PostgreSQL em Testcontainers
+ * (requer Docker). {@code schema=baseline} para no V1 (os índices de coluna única que o ddl-auto
+ * criava); {@code schema=tuned} aplica todas as migrações depois da carga.
+ *
+ * Os SQLs reproduzem os que o Hibernate gera em ContentRepositoryCustomImpl. O setup imprime o
+ * EXPLAIN (ANALYZE, BUFFERS) de cada um, para comparar os planos além das latências.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentIndexBenchmark {
+
+    private static final String SELECT = "SELECT id, title, content_type, genre, release_year, rating, updated_at FROM content";
+    private static final String PAGE = " OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY";
+
+    private static final String TITLE_SEARCH = SELECT + " WHERE lower(title) LIKE '%title 4242%'" + PAGE;
+    private static final String TITLE_LOOKUP = SELECT + " WHERE title = 'Title 1234567'";
+    private static final String FACET_SEARCH = SELECT
+        + " WHERE content_type = 'MOVIE' AND genre = 'Drama' AND release_year >= 1990 AND rating >= 7.0"
+        + " ORDER BY rating DESC" + PAGE;
+    private static final String FACET_COUNT = "SELECT count(id) FROM content"
+        + " WHERE content_type = 'MOVIE' AND genre = 'Drama' AND release_year >= 1990 AND rating >= 7.0";
+    private static final String GENRE_SEARCH = SELECT + " WHERE genre = 'Jazz' ORDER BY rating DESC" + PAGE;
+    private static final String YEAR_RANGE = SELECT + " WHERE release_year BETWEEN 1990 AND 1999 ORDER BY release_year, id" + PAGE;
+    private static final String UPDATED_KEYSET = SELECT
+        + " WHERE updated_at > '2025-06-01' OR (updated_at = '2025-06-01' AND id > 0)"
+        + " ORDER BY updated_at ASC NULLS LAST, id ASC FETCH FIRST 21 ROWS ONLY";
+
+    @Param({"2000000"})
+    private int rows;
+
+    @Param({"baseline", "tuned"})
+    private String schema;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "maintenance_work_mem=512MB");
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+
+        migrate("1");
+        seed();
+        if (schema.equals("tuned")) {
+            // Índices criados depois da carga, como num banco em produção que recebe a V3
+            migrate("latest");
+        }
+        jdbc.execute("VACUUM ANALYZE content");
+
+        for (String sql : List.of(TITLE_SEARCH, TITLE_LOOKUP, FACET_SEARCH, FACET_COUNT, GENRE_SEARCH, YEAR_RANGE, UPDATED_KEYSET)) {
+            System.out.println("\n[" + schema + "] " + sql);
+            jdbc.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class).forEach(System.out::println);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> titleSubstringSearch() {
+        return jdbc.queryForList(TITLE_SEARCH);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> titleLookup() {
+        return jdbc.queryForList(TITLE_LOOKUP);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> facetSearch() {
+        return jdbc.queryForList(FACET_SEARCH);
+    }
+
+    @Benchmark
+    public Long facetCount() {
+        return jdbc.queryForObject(FACET_COUNT, Long.class);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> genreSearch() {
+        return jdbc.queryForList(GENRE_SEARCH);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> yearRange() {
+        return jdbc.queryForList(YEAR_RANGE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> updatedAtKeyset() {
+        return jdbc.queryForList(UPDATED_KEYSET);
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .target(target)
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+    }
+
+    /**
+     * Carga em SQL puro (milhões de linhas pela API levariam minutos). Mesmas distribuições de
+     * BenchmarkData: gênero, ano e nota vêm de hashes do id, determinísticos entre execuções.
+     */
+    private void seed() {
+        String genres = String.join("', '", BenchmarkData.GENRES);
+        jdbc.update("""
+            INSERT INTO content (id, title, description, content_type, genre, release_year, rating,
+                                 duration_minutes, created_at, updated_at)
+            SELECT i,
+                   'Title ' || i,
+                   'A hacker learns about the true nature of reality.',
+                   (ARRAY['MOVIE', 'SERIES', 'MUSIC', 'PODCAST'])[1 + i % 4],
+                   (ARRAY['%s'])[(1 + abs(hashint8extended(i, 1)) %% %d)::int],
+                   1950 + abs(hashint8extended(i, 2)) %% 75,
+                   CASE WHEN abs(hashint8extended(i, 3)) %% 10 = 0 THEN NULL
+                        ELSE (abs(hashint8extended(i, 4)) %% 101) / 10.0 END,
+                   20 + abs(hashint8extended(i, 5)) %% 160,
+                   timestamp '2024-01-01' + i * interval '1 minute',
+                   timestamp '2024-01-01' + i * interval '1 minute'
+            FROM generate_series(1, %d) AS i
+            """.formatted(genres, BenchmarkData.GENRES.length, rows));
+        jdbc.execute("SELECT setval('content_seq', " + rows + ")");
+    }
+}
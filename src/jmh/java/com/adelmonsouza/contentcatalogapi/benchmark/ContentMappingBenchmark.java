@@ -0,0 +1,53 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput e alocação (com -prof gc) do mapeamento entidade -> ContentResponseDTO
+ * usado por todos os caminhos de leitura do ContentService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentMappingBenchmark {
+
+    private Content content;
+    private List<Content> page;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkData.content(42);
+        page = BenchmarkData.contents(100);
+    }
+
+    @Benchmark
+    public ContentResponseDTO mapSingle() {
+        return ContentMapper.toResponseDTO(content);
+    }
+
+    @Benchmark
+    public void mapPageOf100(Blackhole blackhole) {
+        for (Content item : page) {
+            blackhole.consume(ContentMapper.toResponseDTO(item));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.ContentCatalogApiApplication;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.service.ContentService;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesmas consultas do ContentStore com {@code catalog.store.type=jpa} (PostgreSQL em
+ * Testcontainers, requer Docker) e {@code memory} (colunas em memória carregadas do mesmo banco).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentStoreBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    @Param({"jpa", "memory"})
+    private String store;
+
+    @Param({"100000"})
+    private int rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private ContentStore contentStore;
+
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private final Pageable topRated = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "rating"));
+    private final SearchRequestDTO facetSearch = SearchRequestDTO.builder()
+        .contentType(ContentType.MOVIE)
+        .genre("Drama")
+        .minYear(1990)
+        .minRating(7.0)
+        .build();
+    private final SearchRequestDTO titleSearch = SearchRequestDTO.builder().title("title 42").build();
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(ContentCatalogApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.jpa.show-sql=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.com.adelmonsouza.contentcatalogapi=INFO",
+                "catalog.store.type=" + store
+            )
+            .run();
+        ContentService contentService = context.getBean(ContentService.class);
+        contentStore = context.getBean(ContentStore.class);
+
+        // No store em memória as linhas chegam pelos eventos de escrita
+        for (int from = 0; from < rows; from += INSERT_CHUNK) {
+            contentService.createContentBatch(BenchmarkData.createRequests(from, Math.min(INSERT_CHUNK, rows - from)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Optional<ContentResponseDTO> findById() {
+        id = id % rows + 1;
+        return contentStore.findResponseById(id, ContentField.ALL);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> findByGenre() {
+        return contentStore.findByGenre("Drama", firstPage);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> findByReleaseYearBetween() {
+        return contentStore.findByReleaseYearBetween(1990, 1999, topRated);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> searchByFacets() {
+        return contentStore.searchContent(facetSearch, topRated);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> searchByTitle() {
+        return contentStore.searchContent(titleSearch, topRated);
+    }
+
+    @Benchmark
+    public Map<Object, Long> countByGenre() {
+        return contentStore.countGroupedBy(facetSearch, ContentField.GENRE);
+    }
+}
@@ -0,0 +1,103 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.dto.ColumnarPageDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compara as codificações de página negociadas pelo Accept: tempo de serializar e de ler de volta,
+ * e bytes no fio (impressos no setup), com e sem gzip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageEncodingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"json", "cbor", "smile", "columnar-json", "columnar-cbor"})
+    private String encoding;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper mapper;
+    private boolean columnar;
+    private Page<ContentResponseDTO> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mesmo builder que o ContentEncodingConfig usa para cada formato
+        mapper = switch (encoding) {
+            case "json", "columnar-json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor", "columnar-cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException("Unknown encoding: " + encoding);
+        };
+        columnar = encoding.startsWith("columnar");
+        page = new PageImpl<>(BenchmarkData.responses(pageSize), PageRequest.of(0, pageSize), 1_000_000);
+        encoded = serialize();
+        // A página é fixa, então o tamanho também: sai uma vez no log do fork
+        System.out.printf("wire size: %s gzip=%s pageSize=%d -> %d bytes%n", encoding, gzip, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return serialize();
+    }
+
+    /**
+     * Os clientes não reconstroem Page; a leitura vai até a árvore de nós, o mesmo para todos os formatos.
+     */
+    @Benchmark
+    public JsonNode deserializePage() throws IOException {
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+                return mapper.readTree(in);
+            }
+        }
+        return mapper.readTree(encoded);
+    }
+
+    private byte[] serialize() throws IOException {
+        Object body = columnar ? ColumnarPageDTO.of(page) : page;
+        if (!gzip) {
+            return mapper.writeValueAsBytes(body);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            mapper.writeValue(compressed, body);
+        }
+        return out.toByteArray();
+    }
+}
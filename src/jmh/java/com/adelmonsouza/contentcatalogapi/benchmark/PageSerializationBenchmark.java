@@ -0,0 +1,53 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson de Page&lt;ContentResponseDTO&gt; como nas respostas de listagem e busca.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private Page<ContentResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        // Mesmo builder que o Spring Boot usa para o ObjectMapper da aplicação
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        page = new PageImpl<>(BenchmarkData.responses(pageSize), PageRequest.of(0, pageSize), 1_000_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,144 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.ContentCatalogApiApplication;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.service.ContentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query JPA de busca contra um PostgreSQL real em Testcontainers (requer Docker).
+ * A aplicação sobe sem servidor web; os dados são inseridos pelo caminho de importação em lote.
+ * O cache de buscas e a coalescência ficam desligados: senão, depois da primeira iteração, os
+ * métodos serviceSearch* mediriam acertos de cache e não a consulta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchQueryBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+    // Listagem típica com fields=: sem a descrição, que é a maior coluna da linha
+    private static final Set<ContentField> LIST_FIELDS = ContentField.parse("title,contentType,genre,releaseYear,rating");
+
+    @Param({"100000"})
+    private int rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private ContentService contentService;
+    private ContentRepository contentRepository;
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "rating"));
+    private final SearchRequestDTO titleSearch = SearchRequestDTO.builder().title("title 42").build();
+    private final SearchRequestDTO facetSearch = SearchRequestDTO.builder()
+        .contentType(ContentType.MOVIE)
+        .genre("Drama")
+        .minYear(1990)
+        .minRating(7.0)
+        .build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(ContentCatalogApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.jpa.show-sql=false",
+                "catalog.cache.search.enabled=false",
+                "catalog.coalescing.enabled=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.com.adelmonsouza.contentcatalogapi=INFO"
+            )
+            .run();
+        contentService = context.getBean(ContentService.class);
+        contentRepository = context.getBean(ContentRepository.class);
+
+        for (int from = 0; from < rows; from += INSERT_CHUNK) {
+            contentService.createContentBatch(BenchmarkData.createRequests(from, Math.min(INSERT_CHUNK, rows - from)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> serviceSearchByTitle() {
+        return contentService.searchContent(titleSearch, pageable);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> serviceSearchByFacets() {
+        return contentService.searchContent(facetSearch, pageable);
+    }
+
+    @Benchmark
+    public Page<Content> repositorySearchByFacets() {
+        return contentRepository.searchContent(
+            facetSearch.title(),
+            facetSearch.contentType(),
+            facetSearch.genre(),
+            facetSearch.minYear(),
+            facetSearch.maxYear(),
+            facetSearch.minRating(),
+            pageable
+        );
+    }
+
+    /**
+     * Caminho antigo completo: entidades gerenciadas + cópia para o DTO. Comparar com os
+     * projetados em gc.alloc.rate.norm (-prof gc) e no tempo médio.
+     */
+    @Benchmark
+    public Page<ContentResponseDTO> entitySearchByFacetsMapped() {
+        return repositorySearchByFacets().map(ContentMapper::toResponseDTO);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> projectedSearchByFacets() {
+        return contentRepository.findPage(facetSearch, ContentField.ALL, pageable);
+    }
+
+    @Benchmark
+    public Page<ContentResponseDTO> projectedSearchByFacetsSelectedFields() {
+        return contentRepository.findPage(facetSearch, LIST_FIELDS, pageable);
+    }
+}
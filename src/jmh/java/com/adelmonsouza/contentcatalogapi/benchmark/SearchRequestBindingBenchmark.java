@@ -0,0 +1,68 @@
+package com.adelmonsouza.contentcatalogapi.benchmark;
+
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.DataBinder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding de SearchRequestDTO: corpo JSON de POST /search e query params de GET /export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchRequestBindingBenchmark {
+
+    private static final String JSON = """
+        {"title":"Matrix","contentType":"MOVIE","genre":"Sci-Fi","minYear":1990,"maxYear":2010,"minRating":8.0}""";
+
+    private ObjectReader reader;
+    private byte[] body;
+    private DataBinder.ValueResolver queryParams;
+
+    @Setup
+    public void setUp() {
+        reader = Jackson2ObjectMapperBuilder.json().build().readerFor(SearchRequestDTO.class);
+        body = JSON.getBytes(StandardCharsets.UTF_8);
+        Map<String, String> params = Map.of(
+            "title", "Matrix",
+            "contentType", "MOVIE",
+            "genre", "Sci-Fi",
+            "minYear", "1990",
+            "maxYear", "2010",
+            "minRating", "8.0"
+        );
+        queryParams = (name, type) -> params.get(name);
+    }
+
+    @Benchmark
+    public SearchRequestDTO bindJsonBody() throws Exception {
+        return reader.readValue(body);
+    }
+
+    @Benchmark
+    public Object bindQueryParams() {
+        DataBinder binder = new DataBinder(null, "filter");
+        binder.setTargetType(ResolvableType.forClass(SearchRequestDTO.class));
+        binder.construct(queryParams);
+        return binder.getTarget();
+    }
+}
@@ -0,0 +1,117 @@
+package com.adelmonsouza.contentcatalogapi.cache;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache read-through de ContentResponseDTO por id, limitado por tamanho e TTL.
+ *
+ * Invalidações acontecem após o commit da escrita. Um carregamento iniciado antes de uma
+ * invalidação não é gravado no cache, evitando que uma leitura lenta reinsira dados antigos.
+ * Com réplicas, um id escrito por este nó há menos de
+ * {@code catalog.datasource.replicas.primary-after-write} é carregado em {@link PrimaryReads}: nesse
+ * intervalo uma réplica atrasada reinseriria a versão anterior. Os demais seguem para as réplicas.
+ */
+@Component
+public class ContentCache {
+
+    private final Cache<Long, ContentResponseDTO> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    // Expira sozinho depois da janela; o valor não importa
+    private final Cache<Long, Boolean> recentlyWritten;
+
+    public ContentCache(
+        MeterRegistry meterRegistry,
+        @Value("${catalog.cache.content.maximum-size:10000}") long maximumSize,
+        @Value("${catalog.cache.content.ttl:10m}") Duration ttl,
+        @Value("${catalog.datasource.replicas.primary-after-write:PT5S}") Duration primaryAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.recentlyWritten = Caffeine.newBuilder()
+            .expireAfterWrite(primaryAfterWrite)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "content");
+    }
+
+    public ContentResponseDTO get(Long id, Function<Long, ContentResponseDTO> loader) {
+        ContentResponseDTO cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = invalidations.get();
+        Supplier<ContentResponseDTO> load = () -> loader.apply(id);
+        ContentResponseDTO loaded = recentlyWritten.getIfPresent(id) != null ? PrimaryReads.call(load) : load.get();
+        // compute serializa com invalidate() na mesma chave
+        cache.asMap().compute(id, (key, current) -> invalidations.get() == stamp ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * Versão em lote de {@link #get}: o loader recebe só os ids ausentes do cache, numa única chamada.
+     * Ids que o loader não devolve ficam fora do mapa retornado.
+     */
+    public Map<Long, ContentResponseDTO> getAll(Collection<Long> ids,
+                                                Function<Set<Long>, Map<Long, ContentResponseDTO>> loader) {
+        Map<Long, ContentResponseDTO> result = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long stamp = invalidations.get();
+        Supplier<Map<Long, ContentResponseDTO>> load = () -> loader.apply(missing);
+        Map<Long, ContentResponseDTO> loaded = recentlyWritten.getAllPresent(missing).isEmpty()
+            ? load.get()
+            : PrimaryReads.call(load);
+        loaded.forEach((id, content) ->
+            cache.asMap().compute(id, (key, current) -> invalidations.get() == stamp ? content : current));
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Consulta sem carregar e sem contar nas estatísticas de hit/miss.
+     */
+    public ContentResponseDTO peek(Long id) {
+        return cache.asMap().get(id);
+    }
+
+    public void invalidate(Long id) {
+        cache.asMap().compute(id, (key, current) -> {
+            invalidations.incrementAndGet();
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        // Antes da invalidação: o carregamento que ela provoca já vê o id como recém-escrito
+        recentlyWritten.put(event.contentId(), Boolean.TRUE);
+        if (event.type() != ContentChangedEvent.ChangeType.CREATED) {
+            invalidate(event.contentId());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.adelmonsouza.contentcatalogapi.cache;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerações de escrita por faceta de busca, usadas como parte da chave pelo SearchResultCache e
+ * pelos voos de busca do RequestCoalescer: resultados de antes de uma escrita ficam inalcançáveis.
+ *
+ * Um filtro usa a geração da sua faceta mais seletiva (genre, senão contentType, senão a global).
+ * Uma escrita avança as gerações do genre e do contentType de antes e de depois, além da global;
+ * escritas em Drama não afetam buscas em Comedy. Cada faceta também guarda quando foi escrita
+ * por último neste nó ({@link #writtenWithin}).
+ */
+@Component
+public class SearchGenerations {
+
+    private final Facet global = new Facet();
+    private final Map<ContentType, Facet> types = new EnumMap<>(ContentType.class);
+    private final Map<String, Facet> genres = new ConcurrentHashMap<>();
+
+    public SearchGenerations() {
+        for (ContentType type : ContentType.values()) {
+            types.put(type, new Facet());
+        }
+    }
+
+    private static final class Facet {
+
+        private final AtomicLong generation = new AtomicLong();
+        private volatile long writtenAtNanos;
+
+        void bump() {
+            writtenAtNanos = System.nanoTime();
+            generation.incrementAndGet();
+        }
+    }
+
+    public long generation(SearchRequestDTO filter) {
+        Facet facet = facet(filter);
+        // Genre ainda sem escritas desde a subida: qualquer escrita futura nele cria o contador em 1
+        return facet == null ? 0 : facet.generation.get();
+    }
+
+    /**
+     * Se a faceta do filtro foi escrita por este nó há menos de {@code window}.
+     */
+    public boolean writtenWithin(SearchRequestDTO filter, Duration window) {
+        Facet facet = facet(filter);
+        return facet != null && facet.generation.get() > 0
+            && System.nanoTime() - facet.writtenAtNanos < window.toNanos();
+    }
+
+    /**
+     * Roda em AFTER_COMPLETION, depois de todos os listeners AFTER_COMMIT (índice de busca,
+     * ContentCache, store em memória): uma busca que já vê a geração nova nunca lê o índice de
+     * antes da escrita nem entra num voo anterior a ela. Quem escreveu só responde ao cliente depois
+     * desta fase. Um rollback só custa uma invalidação a mais.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onContentChanged(ContentChangedEvent event) {
+        bump(event.previous());
+        bump(event.current());
+        global.bump();
+    }
+
+    private Facet facet(SearchRequestDTO filter) {
+        if (filter == null) {
+            return global;
+        }
+        if (filter.genre() != null) {
+            return genres.get(filter.genre());
+        }
+        if (filter.contentType() != null) {
+            return types.get(filter.contentType());
+        }
+        return global;
+    }
+
+    private void bump(ContentResponseDTO content) {
+        if (content == null) {
+            return;
+        }
+        if (content.genre() != null) {
+            genres.computeIfAbsent(content.genre(), genre -> new Facet()).bump();
+        }
+        if (content.contentType() != null) {
+            types.get(content.contentType()).bump();
+        }
+    }
+}
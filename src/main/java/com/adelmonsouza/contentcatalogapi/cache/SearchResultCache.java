@@ -0,0 +1,86 @@
+package com.adelmonsouza.contentcatalogapi.cache;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Cache de páginas de searchContent, com chave no filtro canônico
+ * ({@link SearchRequestDTO#normalized()}), na página/ordenação e nos campos consultados.
+ *
+ * Invalidação por geração em vez de varredura de chaves: cada chave carrega a geração da faceta
+ * do filtro em {@link SearchGenerations}. Entradas de gerações antigas nunca mais são consultadas e
+ * saem por tamanho ou TTL; escritas em Drama não derrubam as páginas de Comedy.
+ *
+ * Com réplicas, uma falta vai ao primário só se a faceta do filtro foi escrita por este nó há
+ * menos de {@code catalog.datasource.replicas.primary-after-write}: nesse intervalo uma réplica
+ * atrasada devolveria a página de antes da escrita, que ficaria guardada com a geração nova.
+ *
+ * O limite de memória é em linhas (soma dos elementos das páginas), não em número de páginas.
+ * Métricas: cache.gets/cache.evictions{cache=search} e o gauge catalog.cache.search.hit-ratio.
+ */
+@Component
+public class SearchResultCache {
+
+    private final Cache<Key, Page<ContentResponseDTO>> cache;
+    private final boolean enabled;
+    private final SearchGenerations generations;
+    private final Duration primaryAfterWrite;
+
+    public SearchResultCache(
+        MeterRegistry meterRegistry,
+        SearchGenerations generations,
+        @Value("${catalog.cache.search.enabled:true}") boolean enabled,
+        @Value("${catalog.cache.search.maximum-rows:50000}") long maximumRows,
+        @Value("${catalog.cache.search.ttl:5m}") Duration ttl,
+        @Value("${catalog.datasource.replicas.primary-after-write:PT5S}") Duration primaryAfterWrite
+    ) {
+        this.enabled = enabled;
+        this.generations = generations;
+        this.primaryAfterWrite = primaryAfterWrite;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumRows)
+            .weigher((Key key, Page<ContentResponseDTO> page) -> page.getNumberOfElements() + 1)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search");
+        Gauge.builder("catalog.cache.search.hit-ratio", cache, c -> c.stats().hitRate()).register(meterRegistry);
+    }
+
+    // generation é a da faceta do filtro: chaves anteriores a uma escrita deixam de casar
+    private record Key(SearchRequestDTO request, Pageable pageable, Set<ContentField> fields, long generation) {}
+
+    public Page<ContentResponseDTO> get(SearchRequestDTO request, Pageable pageable, Set<ContentField> fields,
+                                        Supplier<Page<ContentResponseDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        SearchRequestDTO normalized = request == null ? null : request.normalized();
+        Key key = new Key(normalized, pageable, fields, generations.generation(normalized));
+        Page<ContentResponseDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Um carregamento que cruze um commit grava com a geração antiga: fica inalcançável
+        Page<ContentResponseDTO> loaded = generations.writtenWithin(normalized, primaryAfterWrite)
+            ? PrimaryReads.call(loader)
+            : loader.get();
+        cache.put(key, loaded);
+        return loaded;
+    }
+}
@@ -0,0 +1,44 @@
+package com.adelmonsouza.contentcatalogapi.changefeed;
+
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Posição no change feed: (changedAt, id) da última mudança entregue, em Base64 URL-safe.
+ */
+record ChangeFeedCursor(LocalDateTime changedAt, Long id) implements Comparable<ChangeFeedCursor> {
+
+    static final ChangeFeedCursor START = new ChangeFeedCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = changedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeFeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+            return new ChangeFeedCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid change feed cursor: " + token);
+        }
+    }
+
+    @Override
+    public int compareTo(ChangeFeedCursor other) {
+        int byTime = changedAt.compareTo(other.changedAt);
+        return byTime != 0 ? byTime : id.compareTo(other.id);
+    }
+}
@@ -0,0 +1,157 @@
+package com.adelmonsouza.contentcatalogapi.changefeed;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.exception.ChangeFeedExpiredException;
+import com.adelmonsouza.contentcatalogapi.model.ContentChange;
+import com.adelmonsouza.contentcatalogapi.repository.ContentChangeRepository;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Log ordenado de criações, atualizações e exclusões do catálogo.
+ *
+ * Cada mudança é gravada antes do commit da transação que a produziu, então o log nunca
+ * diverge do catálogo. A leitura só entrega mudanças com mais de {@code settle-time}: uma
+ * transação mais lenta pode gravar um changedAt menor depois que outra já foi lida, e essa
+ * janela evita que o consumidor pule a mudança dela. Transações de escrita precisam terminar
+ * dentro dessa janela.
+ */
+@Slf4j
+@Service
+public class ContentChangeFeed {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final ContentChangeRepository changeRepository;
+    private final ContentRepository contentRepository;
+    private final Duration settleTime;
+    private final Duration retention;
+
+    public ContentChangeFeed(
+        ContentChangeRepository changeRepository,
+        ContentRepository contentRepository,
+        @Value("${catalog.changes.settle-time:PT5S}") Duration settleTime,
+        @Value("${catalog.changes.retention:P7D}") Duration retention
+    ) {
+        this.changeRepository = changeRepository;
+        this.contentRepository = contentRepository;
+        this.settleTime = settleTime;
+        this.retention = retention;
+    }
+
+    // Roda dentro da transação da escrita, antes do commit
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ContentChangedEvent event) {
+        changeRepository.save(ContentChange.builder()
+            .contentId(event.contentId())
+            .changeType(event.type())
+            // Postgres guarda microssegundos; o cursor precisa comparar igual ao que foi gravado
+            .changedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+            .build());
+    }
+
+    public CursorPageDTO<ContentChangeDTO> read(String since, int size) {
+        return read(since, size, LocalDateTime.now());
+    }
+
+    /**
+     * Posição atual do feed, para quem vai exportar o catálogo e depois seguir as mudanças.
+     */
+    public CursorPageDTO<ContentChangeDTO> head() {
+        return new CursorPageDTO<>(List.of(), 0, false, settledPosition(LocalDateTime.now()).encode());
+    }
+
+    /**
+     * Valida o cursor antes de abrir um stream: 400 se malformado, 410 se já expirou.
+     */
+    public void checkCursor(String since) {
+        checkRetention(ChangeFeedCursor.decode(since), LocalDateTime.now());
+    }
+
+    /**
+     * Leitura com um "agora" fixo, para o stream usar o mesmo instante em todos os assinantes.
+     */
+    public CursorPageDTO<ContentChangeDTO> read(String since, int size, LocalDateTime now) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ChangeFeedCursor from = ChangeFeedCursor.decode(since);
+        checkRetention(from, now);
+        ChangeFeedCursor settled = settledPosition(now);
+
+        List<ContentChange> rows = changeRepository.findAfter(
+            from.changedAt(), from.id(), settled.changedAt(), PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ContentChange> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ChangeFeedCursor next;
+        if (hasNext) {
+            ContentChange last = page.get(page.size() - 1);
+            next = new ChangeFeedCursor(last.getChangedAt(), last.getId());
+        } else {
+            // Tudo antes de settled já foi entregue: o cursor avança mesmo sem mudanças,
+            // então consumidores ativos nunca caem fora da retenção
+            next = from.compareTo(settled) > 0 ? from : settled;
+        }
+        return new CursorPageDTO<>(toChanges(page), pageSize, hasNext, next.encode());
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.changes.purge-interval:PT1H}")
+    @Transactional
+    public void purge() {
+        int purged = changeRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} change feed entries older than {}", purged, retention);
+        }
+    }
+
+    private void checkRetention(ChangeFeedCursor cursor, LocalDateTime now) {
+        if (!cursor.equals(ChangeFeedCursor.START) && cursor.changedAt().isBefore(now.minus(retention))) {
+            throw new ChangeFeedExpiredException(
+                "Change feed cursor is older than the retention period (" + retention + "); re-export the catalog");
+        }
+    }
+
+    private ChangeFeedCursor settledPosition(LocalDateTime now) {
+        return new ChangeFeedCursor(now.minus(settleTime).truncatedTo(ChronoUnit.MICROS), 0L);
+    }
+
+    private List<ContentChangeDTO> toChanges(List<ContentChange> page) {
+        List<Long> liveIds = page.stream()
+            .filter(change -> change.getChangeType() != ContentChangedEvent.ChangeType.DELETED)
+            .map(ContentChange::getContentId)
+            .distinct()
+            .toList();
+        Map<Long, ContentResponseDTO> current = liveIds.isEmpty()
+            ? Map.of()
+            : contentRepository.findResponsesByIds(liveIds, ContentField.ALL).stream()
+                .collect(Collectors.toMap(ContentResponseDTO::id, Function.identity()));
+
+        return page.stream()
+            .map(change -> ContentChangeDTO.builder()
+                .cursor(new ChangeFeedCursor(change.getChangedAt(), change.getId()).encode())
+                .contentId(change.getContentId())
+                .type(change.getChangeType())
+                .changedAt(change.getChangedAt())
+                .content(current.get(change.getContentId()))
+                .build())
+            .toList();
+    }
+}
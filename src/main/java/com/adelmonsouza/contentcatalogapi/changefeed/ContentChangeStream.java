@@ -0,0 +1,177 @@
+package com.adelmonsouza.contentcatalogapi.changefeed;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.exception.ChangeFeedExpiredException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Entrega o change feed via Server-Sent Events.
+ *
+ * Um único agendador lê o log e distribui para os assinantes; quem está no mesmo cursor
+ * (todos os que já alcançaram o fim do log) compartilha a mesma consulta. O id de cada evento
+ * é o cursor da mudança, então o Last-Event-ID da reconexão retoma do ponto certo.
+ *
+ * O envio roda num pool próprio ({@code send-threads}): {@code SseEmitter.send} bloqueia quando o
+ * cliente não lê, e na thread do @Scheduled, compartilhada com as outras tarefas agendadas, um
+ * cliente lento atrasaria todo o resto. Um assinante com envio ainda em andamento fica fora da
+ * rodada e continua do próprio cursor na seguinte. Com {@code spring.threads.virtual.enabled} as
+ * threads do pool são virtuais; {@code send-threads} continua limitando os envios simultâneos.
+ */
+@Slf4j
+@Component
+public class ContentChangeStream {
+
+    private static final int MAX_PAGES_PER_TICK = 10;
+
+    private final ContentChangeFeed changeFeed;
+    private final int batchSize;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender;
+
+    public ContentChangeStream(
+        ContentChangeFeed changeFeed,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.changes.stream.batch-size:500}") int batchSize,
+        @Value("${catalog.changes.stream.timeout:PT30M}") Duration timeout,
+        @Value("${catalog.changes.stream.heartbeat:PT15S}") Duration heartbeat,
+        @Value("${catalog.changes.stream.send-threads:4}") int sendThreads,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.changeFeed = changeFeed;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        ThreadFactory threads = virtualThreads
+            ? new VirtualThreadTaskExecutor("content-change-stream-").getVirtualThreadFactory()
+            : runnable -> new Thread(runnable, "content-change-stream");
+        this.sender = Executors.newFixedThreadPool(sendThreads, threads);
+        Gauge.builder("catalog.changes.stream.subscribers", subscribers, List::size).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String since) {
+        String cursor = since == null || since.isBlank() ? changeFeed.head().nextCursor() : since;
+        changeFeed.checkCursor(cursor);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.changes.stream.poll-interval:PT1S}")
+    public void publish() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // Mesmo "agora" para todos os grupos: quem alcança o fim converge para o mesmo cursor
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<Subscriber>> byCursor = subscribers.stream()
+            .filter(subscriber -> !subscriber.sending.get())
+            .collect(Collectors.groupingBy(Subscriber::cursor));
+        byCursor.forEach((cursor, group) -> deliver(cursor, group, now));
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void deliver(String cursor, List<Subscriber> group, LocalDateTime now) {
+        // Lê as páginas da rodada antes de enviar: cada assinante recebe todas numa única tarefa, em ordem
+        List<ContentChangeDTO> changes = new ArrayList<>();
+        for (int page = 0; page < MAX_PAGES_PER_TICK; page++) {
+            CursorPageDTO<ContentChangeDTO> read;
+            try {
+                read = changeFeed.read(cursor, batchSize, now);
+            } catch (ChangeFeedExpiredException ex) {
+                group.forEach(subscriber -> subscriber.emitter.completeWithError(ex));
+                return;
+            }
+            changes.addAll(read.content());
+            cursor = read.nextCursor();
+            if (!read.hasNext()) {
+                break;
+            }
+        }
+        String nextCursor = cursor;
+        for (Subscriber subscriber : group) {
+            subscriber.sending.set(true);
+            try {
+                sender.execute(() -> subscriber.send(changes, nextCursor, heartbeat));
+            } catch (RejectedExecutionException ex) {
+                // Desligando: close() completa os emitters
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile String cursor;
+        private long lastSentAt = System.nanoTime();
+
+        private Subscriber(SseEmitter emitter, String cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        String cursor() {
+            return cursor;
+        }
+
+        void send(List<ContentChangeDTO> changes, String nextCursor, Duration heartbeat) {
+            try {
+                for (ContentChangeDTO change : changes) {
+                    emitter.send(SseEmitter.event().id(change.cursor()).name("change").data(change));
+                }
+                long now = System.nanoTime();
+                if (!changes.isEmpty()) {
+                    lastSentAt = now;
+                } else if (now - lastSentAt >= heartbeat.toNanos()) {
+                    // Mantém proxies e load balancers sem fechar a conexão ociosa
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                    lastSentAt = now;
+                }
+                cursor = nextCursor;
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Change stream subscriber disconnected: {}", ex.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(ex);
+            } finally {
+                sending.set(false);
+            }
+        }
+    }
+}
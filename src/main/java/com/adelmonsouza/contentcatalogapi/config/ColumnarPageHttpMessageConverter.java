@@ -0,0 +1,56 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.adelmonsouza.contentcatalogapi.dto.ColumnarPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * Escreve páginas de listagem e busca como {@link ColumnarPageDTO}, em JSON ou CBOR conforme o
+ * Accept. Só de saída: nenhum endpoint recebe páginas.
+ */
+public class ColumnarPageHttpMessageConverter extends AbstractHttpMessageConverter<Page<?>> {
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.catalog.columnar+json";
+    public static final String COLUMNAR_CBOR_VALUE = "application/vnd.catalog.columnar+cbor";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+    public static final MediaType COLUMNAR_CBOR = MediaType.parseMediaType(COLUMNAR_CBOR_VALUE);
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public ColumnarPageHttpMessageConverter(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        super(COLUMNAR_JSON, COLUMNAR_CBOR);
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Page.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Page<?> readInternal(Class<? extends Page<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar pages are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Page<?> page, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        ObjectMapper mapper = COLUMNAR_CBOR.isCompatibleWith(contentType) ? cborMapper : jsonMapper;
+        mapper.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), ColumnarPageDTO.of(page));
+    }
+}
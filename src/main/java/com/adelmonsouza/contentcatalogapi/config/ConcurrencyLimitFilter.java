@@ -0,0 +1,139 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.adelmonsouza.contentcatalogapi.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita as requisições simultâneas em /api/**.
+ *
+ * Com virtual threads o Tomcat deixa de limitar a concorrência pelo tamanho do pool de threads;
+ * sem este filtro uma rajada de requisições fica presa esperando conexão no Hikari até estourar
+ * o connection-timeout. Aqui o excesso espera no máximo {@code acquire-timeout} e recebe 503.
+ *
+ * O stream SSE do change feed fica de fora: a conexão dura até o timeout do stream (30 min) sem
+ * usar o banco, e cada assinante seguraria uma permissão esse tempo todo.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String CHANGE_STREAM_PATH = "/api/content/changes/stream";
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(
+        @Value("${catalog.concurrency-limit.max-concurrent-requests:64}") int maxConcurrentRequests,
+        @Value("${catalog.concurrency-limit.acquire-timeout:1s}") Duration acquireTimeout,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+        this.rejected = meterRegistry.counter("catalog.concurrency.rejected");
+        Gauge.builder("catalog.concurrency.in-flight", permits, p -> maxConcurrentRequests - p.availablePermits())
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.equals(CHANGE_STREAM_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Respostas em streaming continuam usando o banco depois que o filtro retorna
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Too many concurrent requests",
+            LocalDateTime.now()
+        ));
+    }
+
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Codificações negociadas pelo Accept, além do JSON padrão: CBOR ({@code application/cbor}),
+ * Smile ({@code application/x-jackson-smile}) e páginas em colunas
+ * ({@link ColumnarPageHttpMessageConverter}).
+ *
+ * Os mappers binários saem do mesmo Jackson2ObjectMapperBuilder do JSON, com as configurações
+ * spring.jackson.*, para que os campos e datas sejam os mesmos em todas as representações.
+ */
+@Configuration
+public class ContentEncodingConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public ContentEncodingConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * Também responde a application/*+cbor: erros de um pedido colunar em CBOR saem em CBOR,
+     * como os de +json saem pelo conversor JSON.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        MappingJackson2CborHttpMessageConverter converter =
+            new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.getObject().factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(MediaType.APPLICATION_CBOR, new MediaType("application", "*+cbor")));
+        return converter;
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.getObject().factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Antes do conversor JSON, que também aceitaria application/*+json. Sem Accept explícito a
+     * página continua saindo em JSON porque os endpoints de página listam os tipos em
+     * {@code produces} com JSON primeiro.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int json = 0;
+        while (json < converters.size() && !(converters.get(json) instanceof MappingJackson2HttpMessageConverter)) {
+            json++;
+        }
+        converters.add(json, new ColumnarPageHttpMessageConverter(
+            objectMapperBuilder.getObject().build(),
+            objectMapperBuilder.getObject().factory(new CBORFactory()).build()
+        ));
+    }
+}
@@ -0,0 +1,44 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Leituras que rodam aqui dentro vão ao primário mesmo em transações readOnly.
+ *
+ * Uma réplica pode estar até {@code max-lag} atrás: logo depois de uma escrita local, a leitura
+ * que recarrega um cache invalidado no AFTER_COMMIT veria a linha antiga e a guardaria até o TTL.
+ * ContentCache e SearchResultCache usam o primário só dentro da janela
+ * {@code catalog.datasource.replicas.primary-after-write} depois de uma escrita deste nó no id ou
+ * na faceta; as recargas em massa (leaderboard, contagens por faceta, cargas do índice de busca e
+ * das sugestões) usam sempre. Sem o profile replicas não tem efeito.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        if (isActive()) {
+            return reads.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static void run(Runnable reads) {
+        call(() -> {
+            reads.run();
+            return null;
+        });
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
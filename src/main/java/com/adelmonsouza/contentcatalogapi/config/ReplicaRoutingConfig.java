@@ -0,0 +1,72 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource com réplicas de leitura (profile {@code replicas}).
+ *
+ * O primário continua configurado por spring.datasource.*; cada URL de
+ * catalog.datasource.replicas.urls ganha um pool Hikari próprio, com o mesmo usuário e senha,
+ * conexões read-only e métricas hikaricp.connections.* com a tag pool=replica-N.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        DataSourceProperties properties,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.datasource.replicas.urls:}") List<String> urls,
+        @Value("${catalog.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+        @Value("${catalog.datasource.replicas.selection:round-robin}") ReplicaRoutingDataSource.Selection selection,
+        @Value("${catalog.datasource.replicas.max-lag:PT2S}") Duration maxLag
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            // Sem conexão no startup: uma réplica fora do ar não impede o serviço de subir
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, selection, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
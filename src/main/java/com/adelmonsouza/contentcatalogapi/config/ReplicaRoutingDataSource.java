@@ -0,0 +1,175 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia transações readOnly para uma réplica e todo o resto (escritas, chamadas sem transação)
+ * para o primário.
+ *
+ * Precisa ficar atrás de um LazyConnectionDataSourceProxy: a conexão só é pedida no primeiro
+ * comando SQL, quando o flag readOnly da transação já está definido. Réplicas com atraso acima de
+ * {@code maxLag}, ou que falharam na última verificação, saem da escolha; sem nenhuma elegível a
+ * leitura vai ao primário. Dentro de {@link PrimaryReads} tudo vai ao primário.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Selection {
+        ROUND_ROBIN,
+        /**
+         * Menos conexões ativas no pool; empates seguem o rodízio.
+         */
+        LEAST_LOADED
+    }
+
+    static final String PRIMARY = "primary";
+
+    /**
+     * Atraso em segundos; zero quando a réplica já aplicou tudo o que recebeu (um primário ocioso
+     * não gera transações, e o timestamp do último replay envelheceria sem haver atraso).
+     */
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END""";
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<Object, Counter> routed = new HashMap<>();
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        List<HikariDataSource> replicaPools,
+        Selection selection,
+        Duration maxLag,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.selection = selection;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.fallbacks = meterRegistry.counter("catalog.datasource.replica.fallback");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, meterRegistry.counter("catalog.datasource.routed", "target", PRIMARY));
+        for (Replica replica : replicas) {
+            targets.put(replica.name, replica.pool);
+            routed.put(replica.name, meterRegistry.counter("catalog.datasource.routed", "target", replica.name));
+            Gauge.builder("catalog.datasource.replica.lag", replica, r -> r.lagSeconds)
+                .tag("pool", replica.name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replicaRead = TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryReads.isActive();
+        Object target = replicaRead ? chooseReplica() : PRIMARY;
+        routed.get(target).increment();
+        return target;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.datasource.replicas.lag-check-interval:PT1S}")
+    public void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                // Uma réplica travada não pode prender a thread do @Scheduled, compartilhada com outras tarefas
+                connection.setNetworkTimeout(Runnable::run, (int) replica.pool.getValidationTimeout());
+                try (Statement statement = connection.createStatement();
+                     ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                    result.next();
+                    replica.lagSeconds = result.getDouble(1);
+                }
+                if (!replica.reachable) {
+                    log.info("Replica {} reachable again", replica.name);
+                    replica.reachable = true;
+                }
+            } catch (SQLException e) {
+                if (replica.reachable) {
+                    log.warn("Replica {} unavailable, routing its reads elsewhere: {}", replica.name, e.getMessage());
+                    replica.reachable = false;
+                }
+                replica.lagSeconds = Double.NaN;
+            }
+        }
+    }
+
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private Object chooseReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        Replica chosen = null;
+        int chosenLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            // NaN (falha na verificação) também não passa
+            if (!(replica.lagSeconds <= maxLagSeconds)) {
+                continue;
+            }
+            if (selection == Selection.ROUND_ROBIN) {
+                return replica.name;
+            }
+            int load = replica.activeConnections();
+            if (load < chosenLoad) {
+                chosen = replica;
+                chosenLoad = load;
+            }
+        }
+        if (chosen != null) {
+            return chosen.name;
+        }
+        fallbacks.increment();
+        return PRIMARY;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        // Só recebe leituras depois da primeira verificação bem-sucedida
+        private volatile double lagSeconds = Double.NaN;
+        // Só para logar as transições, sem repetir o aviso a cada verificação
+        private boolean reachable = true;
+
+        private Replica(HikariDataSource pool) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+        }
+
+        int activeConnections() {
+            // O MXBean só existe depois da primeira conexão do pool
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean == null ? 0 : bean.getActiveConnections();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * Loga chamadas ao ContentRepository acima de {@code catalog.metrics.slow-query-threshold},
+ * com os argumentos (filtros da busca, Pageable, cursor) para reproduzir a consulta.
+ *
+ * A latência em si já é medida por spring.data.repository.invocations; aqui só fica o contexto.
+ */
+@Slf4j
+@Aspect
+@Component
+public class SlowQueryLoggingAspect {
+
+    private static final int MAX_ARGUMENT_LENGTH = 200;
+
+    private final long thresholdNanos;
+    private final MeterRegistry meterRegistry;
+
+    public SlowQueryLoggingAspect(
+        @Value("${catalog.metrics.slow-query-threshold:200ms}") Duration threshold,
+        MeterRegistry meterRegistry
+    ) {
+        this.thresholdNanos = threshold.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(com.adelmonsouza.contentcatalogapi.repository.ContentRepository)")
+    public Object logSlowQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= thresholdNanos) {
+                String method = joinPoint.getSignature().getName();
+                meterRegistry.counter("catalog.repository.slow", "method", method).increment();
+                log.warn("Slow query ContentRepository.{} took {} ms: {}",
+                    method, Duration.ofNanos(elapsed).toMillis(), describeArguments(joinPoint));
+            }
+        }
+    }
+
+    private static String describeArguments(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] values = joinPoint.getArgs();
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < values.length; i++) {
+            String name = names != null ? names[i] : "arg" + i;
+            joiner.add(name + "=" + abbreviate(String.valueOf(values[i])));
+        }
+        return joiner.toString();
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() <= MAX_ARGUMENT_LENGTH ? value : value.substring(0, MAX_ARGUMENT_LENGTH) + "...";
+    }
+}
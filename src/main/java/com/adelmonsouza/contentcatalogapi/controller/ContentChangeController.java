@@ -0,0 +1,49 @@
+package com.adelmonsouza.contentcatalogapi.controller;
+
+import com.adelmonsouza.contentcatalogapi.changefeed.ContentChangeFeed;
+import com.adelmonsouza.contentcatalogapi.changefeed.ContentChangeStream;
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/content/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "Mudanças do catálogo em ordem, para sincronização incremental")
+public class ContentChangeController {
+    
+    private final ContentChangeFeed contentChangeFeed;
+    private final ContentChangeStream contentChangeStream;
+    
+    @GetMapping
+    @Operation(summary = "Listar mudanças", description = "Criações, atualizações e exclusões após o cursor since (sem since, desde o início da retenção); guarde o nextCursor para a próxima chamada")
+    public ResponseEntity<CursorPageDTO<ContentChangeDTO>> getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int size
+    ) {
+        return ResponseEntity.ok(contentChangeFeed.read(since, size));
+    }
+    
+    @GetMapping("/head")
+    @Operation(summary = "Posição atual do feed", description = "Cursor para seguir as mudanças a partir de agora (ex.: antes de um export completo)")
+    public ResponseEntity<CursorPageDTO<ContentChangeDTO>> getHead() {
+        return ResponseEntity.ok(contentChangeFeed.head());
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de mudanças (SSE)", description = "Eventos 'change' a partir de since ou do Last-Event-ID; sem nenhum dos dois, a partir de agora")
+    public SseEmitter streamChanges(
+        @RequestParam(required = false) String since,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return contentChangeStream.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -1,27 +1,68 @@
 package com.adelmonsouza.contentcatalogapi.controller;
 
+import com.adelmonsouza.contentcatalogapi.config.ColumnarPageHttpMessageConverter;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetRequestDTO;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.BulkCreateResponseDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.dto.FacetCountsDTO;
 import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SuggestionDTO;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.facet.ContentFacetCounts;
+import com.adelmonsouza.contentcatalogapi.leaderboard.TopRatedLeaderboard;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.service.ContentBulkImporter;
+import com.adelmonsouza.contentcatalogapi.service.ContentExportService;
 import com.adelmonsouza.contentcatalogapi.service.ContentService;
+import com.adelmonsouza.contentcatalogapi.service.ContentWriteBuffer;
+import com.adelmonsouza.contentcatalogapi.service.ExportFormat;
+import com.adelmonsouza.contentcatalogapi.service.WriteDurability;
+import com.adelmonsouza.contentcatalogapi.suggest.TitleSuggester;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/content")
 @RequiredArgsConstructor
 @Tag(name = "Content Catalog API", description = "API para gerenciamento de catálogo de conteúdo")
 public class ContentController {
     
     private final ContentService contentService;
+    private final ContentBulkImporter contentBulkImporter;
+    private final ContentExportService contentExportService;
+    private final ContentFacetCounts contentFacetCounts;
+    private final TopRatedLeaderboard topRatedLeaderboard;
+    private final ContentWriteBuffer contentWriteBuffer;
+    private final TitleSuggester titleSuggester;
     
     @PostMapping
     @Operation(summary = "Criar novo conteúdo", description = "Cria um novo item no catálogo")
@@ -30,20 +71,138 @@ public class ContentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
-    @GetMapping
-    @Operation(summary = "Listar conteúdo", description = "Lista todo o conteúdo com paginação")
-    public ResponseEntity<Page<ContentResponseDTO>> getAllContent(
-        @PageableDefault(size = 20) Pageable pageable
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Importar conteúdo em lote", description = "Importa NDJSON ou array JSON em lotes transacionais; devolve contagens e os registros que falharam")
+    public ResponseEntity<BulkCreateResponseDTO> bulkCreateContent(HttpServletRequest request) throws IOException {
+        BulkCreateResponseDTO result = contentBulkImporter.importContent(request.getInputStream());
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping(produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        "application/x-jackson-smile",
+        ColumnarPageHttpMessageConverter.COLUMNAR_JSON_VALUE,
+        ColumnarPageHttpMessageConverter.COLUMNAR_CBOR_VALUE
+    })
+    @Operation(summary = "Listar conteúdo", description = "Lista todo o conteúdo com paginação; fields=title,rating limita as colunas consultadas e os campos do JSON. Além de JSON, responde em application/cbor, application/x-jackson-smile e em colunas (application/vnd.catalog.columnar+json ou +cbor) conforme o Accept")
+    public ResponseEntity<Page<?>> getAllContent(
+        @PageableDefault(size = 20) Pageable pageable,
+        @RequestParam(required = false) String fields,
+        WebRequest request
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        Page<ContentResponseDTO> content = contentService.getAllContent(pageable, selected);
+        String etag = ContentEtags.ofList(content.getContent(),
+            content.getTotalElements(), content.getNumber(), content.getSize(), content.getSort(), selected);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        // Mesmo ETag em todas as codificações (JSON, CBOR, colunar): caches separam pelo Accept
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(render(content, selected));
+    }
+    
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar conteúdo por cursor", description = "Paginação por keyset (sem COUNT e sem OFFSET) ordenada por id, rating, releaseYear ou updatedAt")
+    public ResponseEntity<CursorPageDTO<ContentResponseDTO>> getAllContentByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        Sort sort,
+        WebRequest request
+    ) {
+        CursorPageDTO<ContentResponseDTO> content = contentService.getAllContentByCursor(cursor, sort, size);
+        String etag = ContentEtags.ofList(content.content(), content.size(), content.nextCursor());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(content);
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Exportar catálogo", description = "Exporta o catálogo em streaming (NDJSON ou CSV) ou como snapshot binário para o store em memória (snapshot), com os filtros da busca como parâmetros opcionais")
+    public ResponseEntity<StreamingResponseBody> exportContent(
+        @RequestParam(defaultValue = "ndjson") String format,
+        SearchRequestDTO filter
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> contentExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("catalog." + exportFormat.extension())
+                .build()
+                .toString())
+            .body(body);
+    }
+    
+    @PostMapping("/batch-get")
+    @Operation(summary = "Buscar conteúdos por IDs", description = "Busca até 500 conteúdos em uma única consulta, na ordem pedida, informando os IDs inexistentes")
+    public ResponseEntity<BatchGetResponseDTO> batchGetContent(@Valid @RequestBody BatchGetRequestDTO request) {
+        BatchGetResponseDTO result = contentService.getContentByIds(request.ids());
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/batch")
+    @Operation(summary = "Buscar conteúdos por IDs (GET)", description = "Mesmo que batch-get, com os IDs separados por vírgula em ?ids=")
+    public ResponseEntity<BatchGetResponseDTO> batchGetContentByQuery(@RequestParam List<Long> ids) {
+        BatchGetResponseDTO result = contentService.getContentByIds(ids);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/facets")
+    @Operation(summary = "Contagens por faceta", description = "Quantidade de conteúdo por tipo, gênero e ano de lançamento, opcionalmente restrita pelos filtros da busca (query params)")
+    public ResponseEntity<FacetCountsDTO> getFacets(SearchRequestDTO filter) {
+        return ResponseEntity.ok(contentFacetCounts.counts(filter));
+    }
+    
+    @PostMapping("/facets")
+    @Operation(summary = "Contagens por faceta com filtros", description = "Mesmas contagens, com os filtros da busca no corpo")
+    public ResponseEntity<FacetCountsDTO> searchFacets(@RequestBody SearchRequestDTO filter) {
+        return ResponseEntity.ok(contentFacetCounts.counts(filter));
+    }
+    
+    @GetMapping("/top-rated")
+    @Operation(summary = "Mais bem avaliados", description = "Ranking por rating (global, por tipo e/ou gênero) servido da memória; limit até catalog.top-rated.max-limit")
+    public ResponseEntity<List<ContentResponseDTO>> getTopRated(
+        @RequestParam(required = false) ContentType contentType,
+        @RequestParam(required = false) String genre,
+        @RequestParam(defaultValue = "10") int limit
     ) {
-        Page<ContentResponseDTO> content = contentService.getAllContent(pageable);
-        return ResponseEntity.ok(content);
+        return ResponseEntity.ok(topRatedLeaderboard.top(contentType, genre, limit));
+    }
+    
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões de título", description = "Autocomplete por prefixo de qualquer palavra do título, ordenado por rating, com tolerância a erros de digitação (sugestões fuzzy vêm depois); limit até catalog.suggest.max-limit")
+    public ResponseEntity<List<SuggestionDTO>> suggestTitles(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(titleSuggester.suggest(q, limit));
     }
     
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar conteúdo por ID", description = "Retorna um conteúdo específico")
-    public ResponseEntity<ContentResponseDTO> getContentById(@PathVariable Long id) {
-        ContentResponseDTO content = contentService.getContentById(id);
-        return ResponseEntity.ok(content);
+    @Operation(summary = "Buscar conteúdo por ID", description = "Retorna um conteúdo específico (fields= opcional); responde 304 para If-None-Match/If-Modified-Since ainda válidos")
+    public ResponseEntity<Object> getContentById(
+        @PathVariable Long id,
+        @RequestParam(required = false) String fields,
+        WebRequest request,
+        HttpServletResponse response
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        // ETag forte igual em JSON, CBOR e Smile: caches separam pelo Accept, também no 304
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        // Só consulta o updatedAt (sem montar o DTO) quando o cliente manda uma requisição condicional
+        if (isConditional(request)) {
+            LocalDateTime lastModified = contentService.getContentLastModified(id);
+            if (request.checkNotModified(ContentEtags.of(id, lastModified, selected), ContentEtags.lastModified(lastModified))) {
+                return null;
+            }
+        }
+        ContentResponseDTO content = contentService.getContentById(id, selected);
+        return ResponseEntity.ok()
+            .eTag(ContentEtags.of(content.id(), content.updatedAt(), selected))
+            .lastModified(ContentEtags.lastModified(content.updatedAt()))
+            .body(render(content, selected));
     }
     
     @PutMapping("/{id}")
@@ -56,6 +215,24 @@ public class ContentController {
         return ResponseEntity.ok(updated);
     }
     
+    @PatchMapping("/{id}")
+    @Operation(summary = "Atualizar campos quentes", description = "Atualiza rating, durationMinutes e/ou totalEpisodes por um buffer que junta atualizações do mesmo id e grava em lote. durability=committed (padrão) responde com o conteúdo após o commit; buffered responde 202 assim que a atualização entra no buffer. Buffer cheio responde 503 com Retry-After")
+    public CompletableFuture<ResponseEntity<ContentResponseDTO>> patchContent(
+        @PathVariable Long id,
+        @Valid @RequestBody ContentPatchDTO patch,
+        @RequestParam(defaultValue = "committed") String durability
+    ) {
+        WriteDurability mode = WriteDurability.from(durability);
+        if (patch.isEmpty()) {
+            throw new InvalidRequestException("Patch must set at least one field");
+        }
+        CompletableFuture<ContentResponseDTO> written = contentWriteBuffer.submit(id, patch);
+        if (mode == WriteDurability.BUFFERED) {
+            return CompletableFuture.completedFuture(ResponseEntity.accepted().build());
+        }
+        return written.thenApply(ResponseEntity::ok);
+    }
+    
     @DeleteMapping("/{id}")
     @Operation(summary = "Deletar conteúdo", description = "Remove um conteúdo do catálogo")
     public ResponseEntity<Void> deleteContent(@PathVariable Long id) {
@@ -63,14 +240,46 @@ public class ContentController {
         return ResponseEntity.noContent().build();
     }
     
-    @PostMapping("/search")
-    @Operation(summary = "Buscar conteúdo", description = "Busca conteúdo com filtros avançados e paginação")
-    public ResponseEntity<Page<ContentResponseDTO>> searchContent(
+    @PostMapping(value = "/search", produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        "application/x-jackson-smile",
+        ColumnarPageHttpMessageConverter.COLUMNAR_JSON_VALUE,
+        ColumnarPageHttpMessageConverter.COLUMNAR_CBOR_VALUE
+    })
+    @Operation(summary = "Buscar conteúdo", description = "Busca conteúdo com filtros avançados e paginação; aceita fields= e as mesmas codificações da listagem")
+    public ResponseEntity<Page<?>> searchContent(
+        @RequestBody SearchRequestDTO searchRequest,
+        @PageableDefault(size = 20) Pageable pageable,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        Page<ContentResponseDTO> results = contentService.searchContent(searchRequest, pageable, selected);
+        return ResponseEntity.ok(render(results, selected));
+    }
+    
+    @PostMapping("/search/cursor")
+    @Operation(summary = "Buscar conteúdo por cursor", description = "Busca com filtros avançados e paginação por keyset")
+    public ResponseEntity<CursorPageDTO<ContentResponseDTO>> searchContentByCursor(
         @RequestBody SearchRequestDTO searchRequest,
-        @PageableDefault(size = 20) Pageable pageable
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        Sort sort
     ) {
-        Page<ContentResponseDTO> results = contentService.searchContent(searchRequest, pageable);
+        CursorPageDTO<ContentResponseDTO> results = contentService.searchContentByCursor(searchRequest, cursor, sort, size);
         return ResponseEntity.ok(results);
     }
+    
+    private static Object render(ContentResponseDTO content, Set<ContentField> fields) {
+        return fields.containsAll(ContentField.ALL) ? content : ContentField.toMap(content, fields);
+    }
+    
+    private static Page<?> render(Page<ContentResponseDTO> page, Set<ContentField> fields) {
+        return fields.containsAll(ContentField.ALL) ? page : page.map(content -> ContentField.toMap(content, fields));
+    }
+    
+    private static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
-
@@ -0,0 +1,71 @@
+package com.adelmonsouza.contentcatalogapi.controller;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * ETags derivados de Content.updatedAt: fortes por item, fracos nas listas.
+ *
+ * O timestamp é truncado em microssegundos, a precisão do PostgreSQL, para que o ETag
+ * devolvido na escrita seja o mesmo das leituras seguintes.
+ */
+final class ContentEtags {
+
+    private ContentEtags() {
+    }
+
+    static String of(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toHexString(epochMicros(updatedAt)) + "\"";
+    }
+
+    /**
+     * Cada subconjunto de campos é uma representação diferente, com ETag próprio.
+     */
+    static String of(Long id, LocalDateTime updatedAt, Set<ContentField> fields) {
+        if (fields.containsAll(ContentField.ALL)) {
+            return of(id, updatedAt);
+        }
+        int mask = 0;
+        for (ContentField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return "\"" + id + "-" + Long.toHexString(epochMicros(updatedAt)) + "-" + Integer.toHexString(mask) + "\"";
+    }
+
+    /**
+     * ETag de uma lista: hash dos pares (id, updatedAt) mais os metadados que mudam a representação
+     * (total, página, ordenação). Exclusões mudam o conjunto de ids e, portanto, o ETag.
+     *
+     * É fraco: a mesma página sai em JSON, CBOR ou colunas, com ou sem gzip (o Tomcat não
+     * comprime respostas com ETag forte), e o If-None-Match de GET compara ETags fracos.
+     */
+    static String ofList(Collection<ContentResponseDTO> items, Object... metadata) {
+        StringBuilder source = new StringBuilder();
+        for (Object value : metadata) {
+            source.append(value).append('|');
+        }
+        for (ContentResponseDTO item : items) {
+            source.append(item.id()).append(':').append(epochMicros(item.updatedAt())).append(',');
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long epochMicros(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt.truncatedTo(ChronoUnit.MICROS));
+    }
+}
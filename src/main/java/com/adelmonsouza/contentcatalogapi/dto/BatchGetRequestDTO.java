@@ -0,0 +1,13 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchGetRequestDTO(
+    @NotEmpty(message = "Ids are required")
+    @Size(max = 500, message = "At most 500 ids per batch")
+    List<@NotNull(message = "Ids must not be null") Long> ids
+) {}
@@ -0,0 +1,8 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import java.util.List;
+
+public record BatchGetResponseDTO(
+    List<ContentResponseDTO> content,
+    List<Long> missingIds
+) {}
@@ -0,0 +1,20 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Resumo de uma importação: contagens e só os registros que falharam, em ordem de índice.
+ * Os criados não são listados, para a resposta não crescer com o tamanho do arquivo; as falhas
+ * listadas param nas {@code catalog.bulk.max-failure-details} primeiras e {@code failuresTruncated}
+ * conta as demais (todas entram em {@code failed}).
+ */
+@Builder
+public record BulkCreateResponseDTO(
+    int received,
+    int created,
+    int failed,
+    List<BulkItemResultDTO> failures,
+    int failuresTruncated
+) {}
@@ -0,0 +1,13 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import java.util.Map;
+
+public record BulkItemResultDTO(
+    int index,
+    Map<String, String> errors
+) {
+
+    public static BulkItemResultDTO failed(int index, Map<String, String> errors) {
+        return new BulkItemResultDTO(index, errors);
+    }
+}
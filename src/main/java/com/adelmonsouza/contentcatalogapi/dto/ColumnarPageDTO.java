@@ -0,0 +1,64 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página em colunas: o nome de cada campo aparece uma vez, seguido dos valores de todas as linhas
+ * na mesma ordem. Timestamps viram microssegundos desde 1970-01-01T00:00 (o mesmo relógio local
+ * de updatedAt, sem fuso), como nos ETags.
+ */
+public record ColumnarPageDTO(
+    int number,
+    int size,
+    long totalElements,
+    int totalPages,
+    Map<String, List<Object>> columns
+) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Aceita páginas de ContentResponseDTO ou dos mapas de campos selecionados ({@code fields=}).
+     */
+    @SuppressWarnings("unchecked")
+    public static ColumnarPageDTO of(Page<?> page) {
+        Map<String, List<Object>> columns = new LinkedHashMap<>();
+        int rows = page.getNumberOfElements();
+        int row = 0;
+        for (Object item : page.getContent()) {
+            Map<String, Object> values = item instanceof ContentResponseDTO content
+                ? ContentField.toMap(content, ContentField.ALL)
+                : (Map<String, Object>) item;
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                List<Object> column = columns.computeIfAbsent(value.getKey(), key -> new ArrayList<>(rows));
+                // Um campo ausente nas linhas anteriores vira nulo, mantendo as colunas alinhadas
+                while (column.size() < row) {
+                    column.add(null);
+                }
+                column.add(encode(value.getValue()));
+            }
+            row++;
+        }
+        for (List<Object> column : columns.values()) {
+            while (column.size() < rows) {
+                column.add(null);
+            }
+        }
+        return new ColumnarPageDTO(page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(), columns);
+    }
+
+    private static Object encode(Object value) {
+        if (value instanceof LocalDateTime timestamp) {
+            return ChronoUnit.MICROS.between(EPOCH, timestamp);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Item do change feed. {@code content} é o estado atual do conteúdo (nulo se ele já foi
+ * excluído), então aplicar as mudanças em ordem é idempotente.
+ */
+@Builder
+public record ContentChangeDTO(
+    String cursor,
+    Long contentId,
+    ContentChangedEvent.ChangeType type,
+    LocalDateTime changedAt,
+    ContentResponseDTO content
+) {}
@@ -0,0 +1,25 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import com.adelmonsouza.contentcatalogapi.model.Content;
+
+public final class ContentMapper {
+
+    private ContentMapper() {
+    }
+
+    public static ContentResponseDTO toResponseDTO(Content content) {
+        return ContentResponseDTO.builder()
+            .id(content.getId())
+            .title(content.getTitle())
+            .description(content.getDescription())
+            .contentType(content.getContentType())
+            .genre(content.getGenre())
+            .releaseYear(content.getReleaseYear())
+            .rating(content.getRating())
+            .durationMinutes(content.getDurationMinutes())
+            .totalEpisodes(content.getTotalEpisodes())
+            .createdAt(content.getCreatedAt())
+            .updatedAt(content.getUpdatedAt())
+            .build();
+    }
+}
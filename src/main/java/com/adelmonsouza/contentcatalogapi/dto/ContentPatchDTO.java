@@ -0,0 +1,38 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+/**
+ * Atualização parcial dos campos que mudam com frequência; campos nulos ficam como estão.
+ */
+@Builder
+public record ContentPatchDTO(
+    @DecimalMin(value = "0.0", message = "Rating must be at least 0.0")
+    @DecimalMax(value = "10.0", message = "Rating must be at most 10.0")
+    Double rating,
+    
+    @Min(value = 0, message = "Duration must be positive")
+    Integer durationMinutes,
+    
+    @Min(value = 0, message = "Total episodes must be positive")
+    Integer totalEpisodes
+) {
+    
+    public boolean isEmpty() {
+        return rating == null && durationMinutes == null && totalEpisodes == null;
+    }
+    
+    /**
+     * Junta duas atualizações do mesmo conteúdo: o que {@code later} define prevalece.
+     */
+    public ContentPatchDTO merge(ContentPatchDTO later) {
+        return new ContentPatchDTO(
+            later.rating != null ? later.rating : rating,
+            later.durationMinutes != null ? later.durationMinutes : durationMinutes,
+            later.totalEpisodes != null ? later.totalEpisodes : totalEpisodes
+        );
+    }
+}
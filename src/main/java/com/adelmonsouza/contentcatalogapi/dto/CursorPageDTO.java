@@ -0,0 +1,10 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
@@ -0,0 +1,12 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+
+import java.util.Map;
+
+public record FacetCountsDTO(
+    long total,
+    Map<ContentType, Long> contentType,
+    Map<String, Long> genre,
+    Map<Integer, Long> releaseYear
+) {}
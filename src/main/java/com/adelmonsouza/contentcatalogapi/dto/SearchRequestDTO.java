@@ -3,13 +3,30 @@ package com.adelmonsouza.contentcatalogapi.dto;
 import com.adelmonsouza.contentcatalogapi.model.ContentType;
 import lombok.Builder;
 
+import java.util.Locale;
+
 @Builder
 public record SearchRequestDTO(
     String title,
+    String description,
     ContentType contentType,
     String genre,
     Integer minYear,
     Integer maxYear,
     Double minRating
-) {}
+) {
+
+    /**
+     * Forma canônica para chaves de cache: filtros que produzem o mesmo resultado viram o mesmo
+     * objeto. Título e descrição são comparados sem caixa tanto no banco quanto no índice, e trecho
+     * vazio não filtra; genre é igualdade exata e fica como veio.
+     */
+    public SearchRequestDTO normalized() {
+        return new SearchRequestDTO(normalize(title), normalize(description), contentType, genre,
+            minYear, maxYear, minRating);
+    }
 
+    private static String normalize(String part) {
+        return part == null || part.isEmpty() ? null : part.toLowerCase(Locale.ROOT);
+    }
+}
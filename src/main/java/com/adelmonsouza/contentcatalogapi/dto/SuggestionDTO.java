@@ -0,0 +1,17 @@
+package com.adelmonsouza.contentcatalogapi.dto;
+
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import lombok.Builder;
+
+/**
+ * Sugestão de título; {@code fuzzy} indica que ela só casou depois de corrigir a digitação.
+ */
+@Builder
+public record SuggestionDTO(
+    Long id,
+    String title,
+    ContentType contentType,
+    Integer releaseYear,
+    Double rating,
+    boolean fuzzy
+) {}
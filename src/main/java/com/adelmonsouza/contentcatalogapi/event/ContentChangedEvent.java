@@ -0,0 +1,34 @@
+package com.adelmonsouza.contentcatalogapi.event;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+
+/**
+ * Publicado pelo ContentService a cada escrita no catálogo.
+ * {@code previous} é o estado antes da alteração e {@code current} o estado depois
+ * (nulo em exclusões).
+ */
+public record ContentChangedEvent(
+    ChangeType type,
+    Long contentId,
+    ContentResponseDTO previous,
+    ContentResponseDTO current
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ContentChangedEvent created(ContentResponseDTO current) {
+        return new ContentChangedEvent(ChangeType.CREATED, current.id(), null, current);
+    }
+
+    public static ContentChangedEvent updated(ContentResponseDTO previous, ContentResponseDTO current) {
+        return new ContentChangedEvent(ChangeType.UPDATED, current.id(), previous, current);
+    }
+
+    public static ContentChangedEvent deleted(Long id, ContentResponseDTO previous) {
+        return new ContentChangedEvent(ChangeType.DELETED, id, previous, null);
+    }
+}
@@ -0,0 +1,215 @@
+package com.adelmonsouza.contentcatalogapi.facet;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.FacetCountsDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.search.ContentSearchIndex;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contagens por contentType, genre e releaseYear mantidas em memória.
+ *
+ * Criações, atualizações e exclusões ajustam os contadores após o commit; a leitura sem filtro
+ * devolve um snapshot imutável, refeito só depois de alguma escrita. Um job periódico recalcula
+ * tudo com GROUP BY e corrige divergências (escritas concorrentes com a própria reconciliação,
+ * eventos perdidos num restart). Até a primeira reconciliação terminar, só uma chamada a executa;
+ * as demais respondem direto com GROUP BY. Com filtro, as contagens vêm do índice de busca em memória
+ * quando ele está carregado, ou de GROUP BY com os mesmos predicados da busca.
+ */
+@Slf4j
+@Component
+public class ContentFacetCounts {
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final ContentStore contentStore;
+    private final ContentSearchIndex contentSearchIndex;
+    private final Counter drift;
+
+    private final Object lock = new Object();
+    private final ReentrantLock reconciling = new ReentrantLock();
+    private final Map<ContentType, Long> contentTypes = new EnumMap<>(ContentType.class);
+    private final Map<String, Long> genres = new HashMap<>();
+    private final Map<Integer, Long> releaseYears = new HashMap<>();
+    private long total;
+    private long changes;
+    private volatile FacetCountsDTO snapshot;
+    private volatile boolean ready;
+
+    public ContentFacetCounts(
+        ContentStore contentStore,
+        ContentSearchIndex contentSearchIndex,
+        MeterRegistry meterRegistry
+    ) {
+        this.contentStore = contentStore;
+        this.contentSearchIndex = contentSearchIndex;
+        this.drift = meterRegistry.counter("catalog.facets.reconcile.drift");
+    }
+
+    public FacetCountsDTO counts(SearchRequestDTO filter) {
+        if (!isEmpty(filter)) {
+            return contentSearchIndex.isAvailable() ? contentSearchIndex.facets(filter) : query(filter);
+        }
+        if (!ready) {
+            if (!reconciling.tryLock()) {
+                // Outra chamada já está carregando os contadores: não repete as mesmas consultas
+                return query(null);
+            }
+            try {
+                if (!ready) {
+                    reconcile();
+                }
+            } finally {
+                reconciling.unlock();
+            }
+        }
+        FacetCountsDTO current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            if (snapshot == null) {
+                snapshot = new FacetCountsDTO(
+                    total,
+                    Collections.unmodifiableMap(new EnumMap<>(contentTypes)),
+                    Collections.unmodifiableMap(new TreeMap<>(genres)),
+                    Collections.unmodifiableMap(new TreeMap<>(releaseYears))
+                );
+            }
+            return snapshot;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        synchronized (lock) {
+            if (event.previous() != null) {
+                apply(event.previous(), -1);
+            }
+            if (event.current() != null) {
+                apply(event.current(), 1);
+            }
+            changes++;
+            snapshot = null;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${catalog.facets.reconcile-interval:PT5M}",
+               fixedDelayString = "${catalog.facets.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reconciling.lock();
+        try {
+            reconcileWithRetries();
+        } finally {
+            reconciling.unlock();
+        }
+    }
+
+    private void reconcileWithRetries() {
+        for (int attempt = 1; ; attempt++) {
+            long changesBefore;
+            synchronized (lock) {
+                changesBefore = changes;
+            }
+            FacetCountsDTO fromDatabase = PrimaryReads.call(() -> query(null));
+            synchronized (lock) {
+                // Um commit durante as consultas pode ou não estar no resultado: tenta de novo
+                if (changes != changesBefore && attempt < MAX_RECONCILE_ATTEMPTS) {
+                    continue;
+                }
+                replaceWith(fromDatabase);
+                return;
+            }
+        }
+    }
+
+    // Chamado com o lock
+    private void replaceWith(FacetCountsDTO fromDatabase) {
+        long difference = difference(contentTypes, fromDatabase.contentType())
+            + difference(genres, fromDatabase.genre())
+            + difference(releaseYears, fromDatabase.releaseYear());
+        if (ready && difference > 0) {
+            drift.increment(difference);
+            log.info("Facet counts reconciled with database, {} counts corrected", difference);
+        }
+        replace(contentTypes, fromDatabase.contentType());
+        replace(genres, fromDatabase.genre());
+        replace(releaseYears, fromDatabase.releaseYear());
+        total = fromDatabase.total();
+        snapshot = null;
+        ready = true;
+    }
+
+    private FacetCountsDTO query(SearchRequestDTO filter) {
+        Map<ContentType, Long> types = new EnumMap<>(ContentType.class);
+        contentStore.countGroupedBy(filter, ContentField.CONTENT_TYPE)
+            .forEach((type, count) -> types.put((ContentType) type, count));
+        Map<String, Long> genreCounts = new TreeMap<>();
+        contentStore.countGroupedBy(filter, ContentField.GENRE)
+            .forEach((genre, count) -> genreCounts.put((String) genre, count));
+        Map<Integer, Long> yearCounts = new TreeMap<>();
+        contentStore.countGroupedBy(filter, ContentField.RELEASE_YEAR)
+            .forEach((year, count) -> yearCounts.put((Integer) year, count));
+        // contentType é obrigatório: a soma por tipo é o total
+        long count = types.values().stream().mapToLong(Long::longValue).sum();
+        return new FacetCountsDTO(count, types, genreCounts, yearCounts);
+    }
+
+    private void apply(ContentResponseDTO content, int delta) {
+        adjust(contentTypes, content.contentType(), delta);
+        adjust(genres, content.genre(), delta);
+        adjust(releaseYears, content.releaseYear(), delta);
+        total += delta;
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, int delta) {
+        if (key != null) {
+            counts.merge(key, (long) delta, (current, change) -> current + change == 0 ? null : current + change);
+        }
+    }
+
+    private static <K> long difference(Map<K, Long> current, Map<K, Long> expected) {
+        Set<K> keys = new HashSet<>(current.keySet());
+        keys.addAll(expected.keySet());
+        long difference = 0;
+        for (K key : keys) {
+            difference += Math.abs(current.getOrDefault(key, 0L) - expected.getOrDefault(key, 0L));
+        }
+        return difference;
+    }
+
+    private static <K> void replace(Map<K, Long> target, Map<K, Long> source) {
+        target.clear();
+        target.putAll(source);
+    }
+
+    private static boolean isEmpty(SearchRequestDTO filter) {
+        return filter == null
+            || (filter.title() == null && filter.description() == null
+                && filter.contentType() == null && filter.genre() == null
+                && filter.minYear() == null && filter.maxYear() == null && filter.minRating() == null);
+    }
+}
@@ -0,0 +1,212 @@
+package com.adelmonsouza.contentcatalogapi.leaderboard;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Ranking "mais bem avaliados" em memória, global, por contentType, por genre ou pelos dois.
+ *
+ * Cada escopo guarda exatamente os {@code capacity} primeiros por rating (desempate pelo id),
+ * com folga de 2x sobre o maior limit aceito. Escritas ajustam os escopos após o commit; se
+ * exclusões deixarem um escopo incompleto menor que o limit pedido, ele é recarregado do banco.
+ * Leituras devolvem uma lista imutável, sem lock e sem consulta.
+ */
+@Slf4j
+@Component
+public class TopRatedLeaderboard {
+
+    private static final Comparator<ContentResponseDTO> BY_RATING = Comparator
+        .comparing(ContentResponseDTO::rating, Comparator.reverseOrder())
+        .thenComparing(ContentResponseDTO::id);
+    private static final Sort ORDER = Sort.by(Sort.Order.desc("rating"), Sort.Order.asc("id"));
+    private static final int MAX_REFILL_ATTEMPTS = 3;
+
+    private final ContentStore contentStore;
+    private final int maxLimit;
+    private final int capacity;
+    private final int maxScopes;
+    private final ConcurrentMap<Scope, Board> boards = new ConcurrentHashMap<>();
+
+    public TopRatedLeaderboard(
+        ContentStore contentStore,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.top-rated.max-limit:100}") int maxLimit,
+        @Value("${catalog.top-rated.max-scopes:1000}") int maxScopes
+    ) {
+        this.contentStore = contentStore;
+        this.maxLimit = maxLimit;
+        this.capacity = maxLimit * 2;
+        this.maxScopes = maxScopes;
+        Gauge.builder("catalog.top-rated.scopes", boards, Map::size).register(meterRegistry);
+    }
+
+    record Scope(ContentType contentType, String genre) {
+
+        boolean matches(ContentResponseDTO content) {
+            return content.rating() != null
+                && (contentType == null || contentType == content.contentType())
+                && (genre == null || genre.equals(content.genre()));
+        }
+
+        SearchRequestDTO filter() {
+            // rating >= 0 também exclui os nulos
+            return SearchRequestDTO.builder().contentType(contentType).genre(genre).minRating(0.0).build();
+        }
+    }
+
+    public List<ContentResponseDTO> top(ContentType contentType, String genre, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        Scope scope = new Scope(contentType, genre);
+        Board board = boards.get(scope);
+        if (board == null) {
+            if (boards.size() >= maxScopes) {
+                // Não cria escopos sem limite (ex.: gêneros arbitrários vindos da query string)
+                return query(scope, size);
+            }
+            board = boards.computeIfAbsent(scope, Board::new);
+        }
+        List<ContentResponseDTO> ranked = board.snapshot;
+        if (ranked == null || (!board.complete && ranked.size() < size)) {
+            ranked = refill(board);
+        }
+        return ranked.size() <= size ? ranked : ranked.subList(0, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        refill(boards.computeIfAbsent(new Scope(null, null), Board::new));
+        for (ContentType type : ContentType.values()) {
+            refill(boards.computeIfAbsent(new Scope(type, null), Board::new));
+        }
+        for (Object genre : contentStore.countGroupedBy(null, ContentField.GENRE).keySet()) {
+            if (boards.size() >= maxScopes) {
+                break;
+            }
+            refill(boards.computeIfAbsent(new Scope(null, (String) genre), Board::new));
+        }
+        log.info("Top-rated leaderboard loaded {} scopes in {} ms", boards.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        for (Board board : boards.values()) {
+            board.apply(event.previous(), event.current());
+        }
+    }
+
+    private List<ContentResponseDTO> refill(Board board) {
+        for (int attempt = 1; ; attempt++) {
+            long version = board.version();
+            List<ContentResponseDTO> rows = PrimaryReads.call(() -> query(board.scope, capacity));
+            List<ContentResponseDTO> ranked = board.replace(rows, version, attempt == MAX_REFILL_ATTEMPTS);
+            if (ranked != null) {
+                return ranked;
+            }
+        }
+    }
+
+    private List<ContentResponseDTO> query(Scope scope, int size) {
+        Pageable pageable = PageRequest.of(0, size, ORDER);
+        return contentStore.findPage(scope.filter(), ContentField.ALL, pageable).getContent();
+    }
+
+    private final class Board {
+
+        private final Scope scope;
+        private final TreeSet<ContentResponseDTO> ranked = new TreeSet<>(BY_RATING);
+        private final Map<Long, ContentResponseDTO> byId = new HashMap<>();
+        private long version;
+        // complete: o escopo inteiro cabe aqui, não há linhas abaixo do corte no banco
+        private volatile boolean complete;
+        private volatile List<ContentResponseDTO> snapshot;
+
+        private Board(Scope scope) {
+            this.scope = scope;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized void apply(ContentResponseDTO previous, ContentResponseDTO current) {
+            boolean changed = false;
+            if (previous != null) {
+                ContentResponseDTO removed = byId.remove(previous.id());
+                changed = removed != null && ranked.remove(removed);
+            }
+            if (current != null && scope.matches(current) && belongs(current)) {
+                ContentResponseDTO replaced = byId.put(current.id(), current);
+                if (replaced != null) {
+                    ranked.remove(replaced);
+                }
+                ranked.add(current);
+                if (ranked.size() > capacity) {
+                    byId.remove(ranked.pollLast().id());
+                    complete = false;
+                }
+                changed = true;
+            }
+            if (changed) {
+                version++;
+                snapshot = List.copyOf(ranked);
+            }
+        }
+
+        /**
+         * Num escopo incompleto só entra quem fica acima do último: abaixo dele pode haver linhas
+         * do banco que não estão aqui.
+         */
+        private boolean belongs(ContentResponseDTO content) {
+            return complete || (!ranked.isEmpty() && BY_RATING.compare(content, ranked.last()) < 0);
+        }
+
+        /**
+         * Substitui o conteúdo pelo resultado do banco, a menos que uma escrita tenha chegado
+         * durante a consulta (nesse caso o chamador consulta de novo).
+         */
+        synchronized List<ContentResponseDTO> replace(List<ContentResponseDTO> rows, long expectedVersion, boolean force) {
+            if (version != expectedVersion && !force) {
+                return null;
+            }
+            ranked.clear();
+            byId.clear();
+            for (ContentResponseDTO row : rows) {
+                if (Objects.nonNull(row.rating())) {
+                    ranked.add(row);
+                    byId.put(row.id(), row);
+                }
+            }
+            complete = rows.size() < capacity;
+            version++;
+            snapshot = List.copyOf(ranked);
+            return snapshot;
+        }
+    }
+}
@@ -6,13 +6,13 @@ import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * Tabela e índices são criados pelas migrações em {@code db/migration}; o Hibernate só valida o mapeamento.
+ */
 @Entity
-@Table(name = "content", indexes = {
-    @Index(name = "idx_content_type", columnList = "contentType"),
-    @Index(name = "idx_content_genre", columnList = "genre"),
-    @Index(name = "idx_content_rating", columnList = "rating")
-})
+@Table(name = "content")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +21,9 @@ import java.time.LocalDateTime;
 public class Content {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_seq")
+    @SequenceGenerator(name = "content_seq", sequenceName = "content_seq", allocationSize = 50)
+    private Long id; // IDENTITY desativaria o batch de INSERTs do Hibernate
     
     @NotBlank
     @Size(max = 255)
@@ -50,7 +51,6 @@ public class Content {
     
     @DecimalMin("0.0")
     @DecimalMax("10.0")
-    @Column(precision = 3, scale = 1)
     private Double rating;
     
     @Min(0)
@@ -65,15 +65,16 @@ public class Content {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    // Na precisão do PostgreSQL: o valor na entidade (e nos eventos) é o mesmo que volta do banco
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
     
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
 
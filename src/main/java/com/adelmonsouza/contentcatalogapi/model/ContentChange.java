@@ -0,0 +1,37 @@
+package com.adelmonsouza.contentcatalogapi.model;
+
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do change feed: uma por escrita em {@link Content}, gravada na mesma transação.
+ * A ordem do feed é (changedAt, id); o id sozinho não serve porque a sequence entrega
+ * blocos de 50 por instância. O índice (changed_at, id) está na migração V1.
+ */
+@Entity
+@Table(name = "content_change")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_change_seq")
+    @SequenceGenerator(name = "content_change_seq", sequenceName = "content_change_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long contentId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ContentChangedEvent.ChangeType changeType;
+    
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,36 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.model.ContentChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ContentChangeRepository extends JpaRepository<ContentChange, Long> {
+    
+    /**
+     * Keyset sobre (changedAt, id), limitado às mudanças anteriores a {@code settledBefore}.
+     */
+    @Query("SELECT c FROM ContentChange c WHERE " +
+           "(c.changedAt > :changedAt OR (c.changedAt = :changedAt AND c.id > :id)) AND " +
+           "c.changedAt < :settledBefore " +
+           "ORDER BY c.changedAt, c.id")
+    List<ContentChange> findAfter(
+        @Param("changedAt") LocalDateTime changedAt,
+        @Param("id") Long id,
+        @Param("settledBefore") LocalDateTime settledBefore,
+        Pageable pageable
+    );
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ContentChange c WHERE c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,96 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Colunas de Content que podem ser projetadas diretamente em ContentResponseDTO,
+ * sem instanciar a entidade. O nome da propriedade é o mesmo no JPA e no JSON.
+ */
+public enum ContentField {
+    ID("id", ContentResponseDTO::id, (builder, value) -> builder.id((Long) value)),
+    TITLE("title", ContentResponseDTO::title, (builder, value) -> builder.title((String) value)),
+    DESCRIPTION("description", ContentResponseDTO::description, (builder, value) -> builder.description((String) value)),
+    CONTENT_TYPE("contentType", ContentResponseDTO::contentType, (builder, value) -> builder.contentType((ContentType) value)),
+    GENRE("genre", ContentResponseDTO::genre, (builder, value) -> builder.genre((String) value)),
+    RELEASE_YEAR("releaseYear", ContentResponseDTO::releaseYear, (builder, value) -> builder.releaseYear((Integer) value)),
+    RATING("rating", ContentResponseDTO::rating, (builder, value) -> builder.rating((Double) value)),
+    DURATION_MINUTES("durationMinutes", ContentResponseDTO::durationMinutes, (builder, value) -> builder.durationMinutes((Integer) value)),
+    TOTAL_EPISODES("totalEpisodes", ContentResponseDTO::totalEpisodes, (builder, value) -> builder.totalEpisodes((Integer) value)),
+    CREATED_AT("createdAt", ContentResponseDTO::createdAt, (builder, value) -> builder.createdAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", ContentResponseDTO::updatedAt, (builder, value) -> builder.updatedAt((LocalDateTime) value));
+
+    public static final Set<ContentField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ContentField.class));
+
+    private final String property;
+    private final Function<ContentResponseDTO, Object> getter;
+    private final BiConsumer<ContentResponseDTO.ContentResponseDTOBuilder, Object> setter;
+
+    ContentField(String property, Function<ContentResponseDTO, Object> getter,
+                 BiConsumer<ContentResponseDTO.ContentResponseDTOBuilder, Object> setter) {
+        this.property = property;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    void apply(ContentResponseDTO.ContentResponseDTOBuilder builder, Object value) {
+        setter.accept(builder, value);
+    }
+
+    public static Optional<ContentField> fromProperty(String property) {
+        return Arrays.stream(values())
+            .filter(field -> field.property.equals(property))
+            .findFirst();
+    }
+
+    /**
+     * Lê o parâmetro {@code fields=title,rating}. Vazio significa todos os campos; o id sempre é incluído.
+     */
+    public static Set<ContentField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<ContentField> selected = EnumSet.of(ID);
+        for (String property : fields.split(",")) {
+            String trimmed = property.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromProperty(trimmed).orElseThrow(() -> new InvalidRequestException(
+                "Unknown field: " + trimmed + ". Allowed fields: " + allowedProperties())));
+        }
+        return selected.size() == ALL.size() ? ALL : Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * Representação JSON só com os campos pedidos, incluindo os que forem nulos.
+     */
+    public static Map<String, Object> toMap(ContentResponseDTO content, Set<ContentField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ContentField field : fields) {
+            values.put(field.property, field.getter.apply(content));
+        }
+        return values;
+    }
+
+    private static String allowedProperties() {
+        return Arrays.stream(values()).map(ContentField::property).collect(Collectors.joining(", "));
+    }
+}
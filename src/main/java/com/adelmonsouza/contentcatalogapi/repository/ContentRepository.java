@@ -4,15 +4,17 @@ import com.adelmonsouza.contentcatalogapi.model.Content;
 import com.adelmonsouza.contentcatalogapi.model.ContentType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
-public interface ContentRepository extends JpaRepository<Content, Long> {
+public interface ContentRepository extends JpaRepository<Content, Long>, ContentRepositoryCustom {
     
     Optional<Content> findByTitle(String title);
     
@@ -24,6 +26,11 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     
     Page<Content> findByRatingGreaterThanEqual(Double minRating, Pageable pageable);
     
+    Slice<Content> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @Query("SELECT c.updatedAt FROM Content c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
     @Query("SELECT c FROM Content c WHERE " +
            "(:title IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
            "(:contentType IS NULL OR c.contentType = :contentType) AND " +
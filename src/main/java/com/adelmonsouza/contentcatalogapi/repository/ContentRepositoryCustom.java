@@ -0,0 +1,30 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface ContentRepositoryCustom {
+
+    Slice<Content> findSlice(SearchRequestDTO filter, KeysetPosition position, int size);
+    
+    Stream<Content> streamAll(SearchRequestDTO filter, int fetchSize);
+    
+    Page<ContentResponseDTO> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable);
+    
+    Optional<ContentResponseDTO> findResponseById(Long id, Set<ContentField> fields);
+    
+    List<ContentResponseDTO> findResponsesByIds(Collection<Long> ids, Set<ContentField> fields);
+    
+    Map<Object, Long> countGroupedBy(SearchRequestDTO filter, ContentField field);
+}
@@ -0,0 +1,259 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.JpaOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class ContentRepositoryCustomImpl implements ContentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Paginação por keyset: busca {@code size + 1} linhas após a posição informada,
+     * sem COUNT e sem OFFSET. Ratings nulos ficam por último em ambas as direções.
+     */
+    @Override
+    public Slice<Content> findSlice(SearchRequestDTO filter, KeysetPosition position, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Content> query = cb.createQuery(Content.class);
+        Root<Content> root = query.from(Content.class);
+
+        List<Predicate> predicates = filterPredicates(cb, root, filter);
+        if (!position.isFirst()) {
+            predicates.add(afterPredicate(cb, root, position));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(orderBy(cb, root, position));
+
+        List<Content> rows = entityManager.createQuery(query)
+            .setMaxResults(size + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Cursor JDBC forward-only ordenado por id. Precisa rodar dentro de uma transação para que
+     * o driver do PostgreSQL respeite o fetch size em vez de carregar o resultado inteiro.
+     */
+    @Override
+    public Stream<Content> streamAll(SearchRequestDTO filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Content> query = cb.createQuery(Content.class);
+        Root<Content> root = query.from(Content.class);
+        query.where(filterPredicates(cb, root, filter).toArray(Predicate[]::new));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    /**
+     * Página projetada direto em ContentResponseDTO: só as colunas pedidas (o id sempre vem),
+     * sem entidades gerenciadas, snapshots de dirty checking ou mapeamento entidade -> DTO.
+     * O COUNT só roda quando a página não basta para saber o total.
+     */
+    @Override
+    public Page<ContentResponseDTO> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Content> root = query.from(Content.class);
+        List<ContentField> selected = withId(fields);
+        query.multiselect(selections(root, selected));
+        query.where(filterPredicates(cb, root, filter).toArray(Predicate[]::new));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ContentResponseDTO> content = toResponses(typedQuery.getResultList(), selected);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    public Optional<ContentResponseDTO> findResponseById(Long id, Set<ContentField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Content> root = query.from(Content.class);
+        List<ContentField> selected = withId(fields);
+        query.multiselect(selections(root, selected));
+        query.where(cb.equal(root.get("id"), id));
+
+        return toResponses(entityManager.createQuery(query).getResultList(), selected).stream().findFirst();
+    }
+
+    /**
+     * Uma única consulta IN; a ordem do resultado não é garantida.
+     */
+    @Override
+    public List<ContentResponseDTO> findResponsesByIds(Collection<Long> ids, Set<ContentField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Content> root = query.from(Content.class);
+        List<ContentField> selected = withId(fields);
+        query.multiselect(selections(root, selected));
+        query.where(root.get("id").in(ids));
+
+        return toResponses(entityManager.createQuery(query).getResultList(), selected);
+    }
+
+    /**
+     * SELECT campo, COUNT(*) ... GROUP BY campo com os filtros da busca. Valores nulos ficam de fora.
+     */
+    @Override
+    public Map<Object, Long> countGroupedBy(SearchRequestDTO filter, ContentField field) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Content> root = query.from(Content.class);
+        Path<Object> key = root.get(field.property());
+        query.multiselect(key, cb.count(root));
+        query.where(filterPredicates(cb, root, filter).toArray(Predicate[]::new));
+        query.groupBy(key);
+
+        Map<Object, Long> counts = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            if (tuple.get(0) != null) {
+                counts.put(tuple.get(0), tuple.get(1, Long.class));
+            }
+        }
+        return counts;
+    }
+
+    private long count(SearchRequestDTO filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Content> root = query.from(Content.class);
+        query.select(cb.count(root));
+        query.where(filterPredicates(cb, root, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<ContentField> withId(Set<ContentField> fields) {
+        EnumSet<ContentField> selected = EnumSet.of(ContentField.ID);
+        selected.addAll(fields);
+        return List.copyOf(selected);
+    }
+
+    private static List<Selection<?>> selections(Root<Content> root, List<ContentField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (ContentField field : fields) {
+            selections.add(root.get(field.property()));
+        }
+        return selections;
+    }
+
+    private static List<ContentResponseDTO> toResponses(List<Tuple> tuples, List<ContentField> fields) {
+        List<ContentResponseDTO> responses = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            ContentResponseDTO.ContentResponseDTOBuilder builder = ContentResponseDTO.builder();
+            for (int i = 0; i < fields.size(); i++) {
+                fields.get(i).apply(builder, tuple.get(i));
+            }
+            responses.add(builder.build());
+        }
+        return responses;
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Content> root, SearchRequestDTO filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.title() != null) {
+            predicates.add(cb.like(cb.lower(root.get("title")), "%" + filter.title().toLowerCase(Locale.ROOT) + "%"));
+        }
+        if (filter.description() != null) {
+            predicates.add(cb.like(cb.lower(root.get("description")),
+                "%" + filter.description().toLowerCase(Locale.ROOT) + "%"));
+        }
+        if (filter.contentType() != null) {
+            predicates.add(cb.equal(root.get("contentType"), filter.contentType()));
+        }
+        if (filter.genre() != null) {
+            predicates.add(cb.equal(root.get("genre"), filter.genre()));
+        }
+        if (filter.minYear() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("releaseYear"), filter.minYear()));
+        }
+        if (filter.maxYear() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("releaseYear"), filter.maxYear()));
+        }
+        if (filter.minRating() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("rating"), filter.minRating()));
+        }
+        return predicates;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate afterPredicate(CriteriaBuilder cb, Root<Content> root, KeysetPosition position) {
+        boolean ascending = position.direction().isAscending();
+        Path<Long> id = root.get("id");
+        Predicate idAfter = ascending ? cb.greaterThan(id, position.lastId()) : cb.lessThan(id, position.lastId());
+        if (position.sort() == KeysetSort.ID) {
+            return idAfter;
+        }
+
+        Expression<Comparable> key = root.get(position.sort().property());
+        if (position.lastValue() == null) {
+            // Já estamos no bloco de nulos, que vem por último
+            return cb.and(cb.isNull(key), idAfter);
+        }
+        Comparable value = position.lastValue();
+        Predicate keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate after = cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter));
+        return position.sort().nullable() ? cb.or(after, cb.isNull(key)) : after;
+    }
+
+    private List<Order> orderBy(CriteriaBuilder cb, Root<Content> root, KeysetPosition position) {
+        boolean ascending = position.direction().isAscending();
+        Path<Long> id = root.get("id");
+        Order idOrder = ascending ? cb.asc(id) : cb.desc(id);
+        if (position.sort() == KeysetSort.ID) {
+            return List.of(idOrder);
+        }
+        Path<?> key = root.get(position.sort().property());
+        JpaOrder keyOrder = (JpaOrder) (ascending ? cb.asc(key) : cb.desc(key));
+        return List.of(keyOrder.nullPrecedence(NullPrecedence.LAST), idOrder);
+    }
+}
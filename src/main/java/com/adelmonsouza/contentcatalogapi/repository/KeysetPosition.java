@@ -0,0 +1,23 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Posição de uma página por keyset: ordenação e a chave (valor, id) da última linha entregue.
+ * {@code lastId} nulo indica a primeira página.
+ */
+public record KeysetPosition(
+    KeysetSort sort,
+    Sort.Direction direction,
+    Comparable<?> lastValue,
+    Long lastId
+) {
+
+    public static KeysetPosition first(KeysetSort sort, Sort.Direction direction) {
+        return new KeysetPosition(sort, direction, null, null);
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+}
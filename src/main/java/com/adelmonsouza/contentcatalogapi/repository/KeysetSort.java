@@ -0,0 +1,53 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.model.Content;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Ordenações suportadas pela paginação por keyset. O desempate é sempre pelo id.
+ */
+public enum KeysetSort {
+    ID("id", false, Content::getId, Long::valueOf),
+    RATING("rating", true, Content::getRating, Double::valueOf),
+    RELEASE_YEAR("releaseYear", false, Content::getReleaseYear, Integer::valueOf),
+    UPDATED_AT("updatedAt", false, Content::getUpdatedAt, LocalDateTime::parse);
+
+    private final String property;
+    private final boolean nullable;
+    private final Function<Content, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    KeysetSort(String property, boolean nullable, Function<Content, Comparable<?>> extractor,
+               Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.nullable = nullable;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public boolean nullable() {
+        return nullable;
+    }
+
+    public Comparable<?> valueOf(Content content) {
+        return extractor.apply(content);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static Optional<KeysetSort> fromProperty(String property) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.property.equals(property))
+            .findFirst();
+    }
+}
@@ -0,0 +1,376 @@
+package com.adelmonsouza.contentcatalogapi.search;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.FacetCountsDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória para POST /api/content/search.
+ *
+ * Título e descrição casam por trecho, como o {@code LIKE '%trecho%'} da query JPA ("rix" encontra
+ * "The Matrix"), com postings por trigrama (ver {@link SubstringColumn}). contentType e genre usam
+ * listas de postings em bitmap;
+ * releaseYear, rating, id e updatedAt ficam em colunas ordenadas para intervalos e ordenação,
+ * mantidas em ordem a cada escrita (ver {@link SortedNumericColumn}): a busca só lê.
+ * O índice devolve apenas ids e total: as linhas da página são carregadas pela chave primária.
+ */
+@Slf4j
+@Component
+public class ContentSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ContentRepository contentRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docsById = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private int nextDoc;
+
+    private long[] idsByDoc = new long[0];
+    private ContentType[] typesByDoc = new ContentType[0];
+    private String[] genresByDoc = new String[0];
+
+    private final SubstringColumn titles = new SubstringColumn();
+    private final SubstringColumn descriptions = new SubstringColumn();
+    private final Map<ContentType, BitSet> byContentType = new EnumMap<>(ContentType.class);
+    private final Map<String, BitSet> byGenre = new HashMap<>();
+
+    private final SortedNumericColumn ids = new SortedNumericColumn();
+    private final SortedNumericColumn releaseYears = new SortedNumericColumn();
+    private final SortedNumericColumn ratings = new SortedNumericColumn();
+    private final SortedNumericColumn updatedAts = new SortedNumericColumn();
+
+    private final Set<Long> deletedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public ContentSearchIndex(
+        ContentRepository contentRepository,
+        @Value("${catalog.search.in-memory.enabled:false}") boolean enabled
+    ) {
+        this.contentRepository = contentRepository;
+        this.enabled = enabled;
+    }
+
+    public record SearchHits(List<Long> ids, long total) {}
+
+    /**
+     * Indica se o índice pode responder à busca; caso contrário o chamador usa a query JPA.
+     */
+    public boolean canServe(Pageable pageable) {
+        return enabled && ready && pageable.isPaged() && sortColumn(pageable.getSort()) != null;
+    }
+
+    public SearchHits search(SearchRequestDTO request, Pageable pageable) {
+        Sort.Order order = pageable.getSort().isSorted()
+            ? pageable.getSort().iterator().next()
+            : Sort.Order.asc("id");
+        lock.readLock().lock();
+        try {
+            BitSet candidates = match(request);
+            long total = candidates.cardinality();
+            List<Long> pageIds = collectPage(candidates, sortColumn(pageable.getSort()), order.isAscending(),
+                pageable.getOffset(), pageable.getPageSize());
+            return new SearchHits(pageIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    /**
+     * Contagens por contentType, genre e releaseYear dos documentos que casam com o filtro,
+     * numa única passada pelos candidatos.
+     */
+    public FacetCountsDTO facets(SearchRequestDTO request) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = match(request);
+            Map<ContentType, Long> types = new EnumMap<>(ContentType.class);
+            Map<String, Long> genres = new TreeMap<>();
+            Map<Integer, Long> years = new TreeMap<>();
+            for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                if (typesByDoc[doc] != null) {
+                    types.merge(typesByDoc[doc], 1L, Long::sum);
+                }
+                if (genresByDoc[doc] != null) {
+                    genres.merge(genresByDoc[doc], 1L, Long::sum);
+                }
+                double year = releaseYears.get(doc);
+                if (!Double.isNaN(year)) {
+                    years.merge((int) year, 1L, Long::sum);
+                }
+            }
+            return new FacetCountsDTO(candidates.cardinality(), types, genres, years);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            columns().forEach(SortedNumericColumn::deferSorting);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long lastId = 0L;
+        int loaded = 0;
+        Slice<Content> batch;
+        do {
+            long after = lastId;
+            batch = PrimaryReads.call(() ->
+                contentRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, LOAD_BATCH_SIZE)));
+            for (Content content : batch) {
+                index(ContentMapper.toResponseDTO(content));
+                lastId = content.getId();
+                loaded++;
+            }
+        } while (batch.hasNext());
+
+        lock.writeLock().lock();
+        try {
+            // Uma ordenação por coluna no fim da carga, em vez de uma inserção no meio por linha
+            columns().forEach(SortedNumericColumn::rebuild);
+            deletedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Content search index loaded {} items in {} ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.type() == ContentChangedEvent.ChangeType.DELETED) {
+            remove(event.contentId());
+        } else {
+            index(event.current());
+        }
+    }
+
+    public void index(ContentResponseDTO content) {
+        double updatedAt = content.updatedAt() == null
+            ? Double.NaN
+            : content.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        lock.writeLock().lock();
+        try {
+            if (!ready && deletedWhileLoading.contains(content.id())) {
+                return;
+            }
+            Integer existing = docsById.get(content.id());
+            if (existing != null) {
+                // Eventos e carga inicial podem chegar fora de ordem: mantém a versão mais nova
+                if (updatedAts.get(existing) > updatedAt) {
+                    return;
+                }
+                unlink(existing);
+            }
+            int doc = existing != null ? existing : allocateDoc();
+            docsById.put(content.id(), doc);
+            live.set(doc);
+
+            idsByDoc[doc] = content.id();
+            typesByDoc[doc] = content.contentType();
+            genresByDoc[doc] = content.genre();
+            titles.set(doc, content.title());
+            descriptions.set(doc, content.description());
+
+            if (content.contentType() != null) {
+                byContentType.computeIfAbsent(content.contentType(), key -> new BitSet()).set(doc);
+            }
+            if (content.genre() != null) {
+                byGenre.computeIfAbsent(content.genre(), key -> new BitSet()).set(doc);
+            }
+
+            ids.set(doc, content.id());
+            releaseYears.set(doc, content.releaseYear() == null ? Double.NaN : content.releaseYear());
+            ratings.set(doc, content.rating() == null ? Double.NaN : content.rating());
+            updatedAts.set(doc, updatedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                deletedWhileLoading.add(id);
+            }
+            Integer doc = docsById.remove(id);
+            if (doc == null) {
+                return;
+            }
+            unlink(doc);
+            live.clear(doc);
+            freeDocs.push(doc);
+            for (SortedNumericColumn column : columns()) {
+                column.remove(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(SearchRequestDTO request) {
+        BitSet result = (BitSet) live.clone();
+        if (request.contentType() != null) {
+            and(result, byContentType.get(request.contentType()));
+        }
+        if (request.genre() != null) {
+            and(result, byGenre.get(request.genre()));
+        }
+        if (request.title() != null) {
+            titles.retainContaining(result, request.title());
+        }
+        if (request.description() != null) {
+            descriptions.retainContaining(result, request.description());
+        }
+        if (request.minYear() != null || request.maxYear() != null) {
+            result.and(releaseYears.range(
+                request.minYear() == null ? null : request.minYear().doubleValue(),
+                request.maxYear() == null ? null : request.maxYear().doubleValue()
+            ));
+        }
+        if (request.minRating() != null) {
+            result.and(ratings.range(request.minRating(), null));
+        }
+        return result;
+    }
+
+    private List<Long> collectPage(BitSet candidates, SortedNumericColumn column, boolean ascending,
+                                   long offset, int pageSize) {
+        List<Long> pageIds = new ArrayList<>(pageSize);
+        long seen = 0;
+        int size = column.size();
+        for (int i = 0; i < size && pageIds.size() < pageSize; i++) {
+            int doc = column.docAt(ascending ? i : size - 1 - i);
+            if (candidates.get(doc) && seen++ >= offset) {
+                pageIds.add(idsByDoc[doc]);
+            }
+        }
+        return pageIds;
+    }
+
+    private SortedNumericColumn sortColumn(Sort sort) {
+        if (sort.isUnsorted()) {
+            return ids;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        return switch (orders.get(0).getProperty()) {
+            case "id" -> ids;
+            case "releaseYear" -> releaseYears;
+            case "rating" -> ratings;
+            case "updatedAt" -> updatedAts;
+            default -> null;
+        };
+    }
+
+    private List<SortedNumericColumn> columns() {
+        return List.of(ids, releaseYears, ratings, updatedAts);
+    }
+
+    private void unlink(int doc) {
+        titles.remove(doc);
+        descriptions.remove(doc);
+        if (typesByDoc[doc] != null) {
+            clearPosting(byContentType, typesByDoc[doc], doc);
+        }
+        if (genresByDoc[doc] != null) {
+            clearPosting(byGenre, genresByDoc[doc], doc);
+        }
+        typesByDoc[doc] = null;
+        genresByDoc[doc] = null;
+    }
+
+    private <K> void clearPosting(Map<K, BitSet> postings, K key, int doc) {
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(doc);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private int allocateDoc() {
+        if (!freeDocs.isEmpty()) {
+            return freeDocs.pop();
+        }
+        int doc = nextDoc++;
+        if (doc >= idsByDoc.length) {
+            int capacity = Math.max(16, idsByDoc.length * 2);
+            idsByDoc = Arrays.copyOf(idsByDoc, capacity);
+            typesByDoc = Arrays.copyOf(typesByDoc, capacity);
+            genresByDoc = Arrays.copyOf(genresByDoc, capacity);
+        }
+        return doc;
+    }
+
+    private static void and(BitSet target, BitSet other) {
+        if (other == null) {
+            target.clear();
+        } else {
+            target.and(other);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.adelmonsouza.contentcatalogapi.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Coluna numérica ordenada (valor, doc) usada para filtros de intervalo e ordenação.
+ * Valores nulos são representados por NaN e ficam no fim da ordem ascendente,
+ * como o PostgreSQL faz com NULLS LAST.
+ *
+ * Cada escrita move só a entrada do doc: duas buscas binárias e um deslocamento dos arrays
+ * primitivos entre a posição antiga e a nova, sem reordenar a coluna. Na carga inicial, em que
+ * quase toda escrita seria uma inserção no meio, {@link #deferSorting()} adia a ordenação até
+ * um único {@link #rebuild()}.
+ */
+class SortedNumericColumn {
+
+    private double[] valuesByDoc = new double[0];
+    private final BitSet present = new BitSet();
+
+    private double[] sortedValues = new double[0];
+    private int[] sortedDocs = new int[0];
+    private int size;
+    private int nullCount;
+    private boolean deferred;
+
+    void set(int doc, double value) {
+        ensureCapacity(doc + 1);
+        boolean existed = present.get(doc);
+        double previous = valuesByDoc[doc];
+        valuesByDoc[doc] = value;
+        present.set(doc);
+        if (deferred) {
+            return;
+        }
+        if (existed) {
+            move(insertionPoint(previous, doc), previous, doc, value);
+        } else {
+            insert(doc, value);
+        }
+    }
+
+    void remove(int doc) {
+        if (!present.get(doc)) {
+            return;
+        }
+        present.clear(doc);
+        if (deferred) {
+            return;
+        }
+        double value = valuesByDoc[doc];
+        int at = insertionPoint(value, doc);
+        System.arraycopy(sortedValues, at + 1, sortedValues, at, size - at - 1);
+        System.arraycopy(sortedDocs, at + 1, sortedDocs, at, size - at - 1);
+        size--;
+        if (Double.isNaN(value)) {
+            nullCount--;
+        }
+    }
+
+    double get(int doc) {
+        return valuesByDoc[doc];
+    }
+
+    /**
+     * Escritas seguintes só gravam o valor do doc; a ordem volta a valer no próximo {@link #rebuild()}.
+     */
+    void deferSorting() {
+        deferred = true;
+    }
+
+    void rebuild() {
+        int count = present.cardinality();
+        Integer[] order = new Integer[count];
+        int i = 0;
+        for (int doc = present.nextSetBit(0); doc >= 0; doc = present.nextSetBit(doc + 1)) {
+            order[i++] = doc;
+        }
+        Arrays.sort(order, (a, b) -> compare(valuesByDoc[a], a, valuesByDoc[b], b));
+        double[] values = new double[count];
+        int[] docs = new int[count];
+        int nulls = 0;
+        for (int j = 0; j < count; j++) {
+            docs[j] = order[j];
+            values[j] = valuesByDoc[order[j]];
+            if (Double.isNaN(values[j])) {
+                nulls++;
+            }
+        }
+        this.sortedValues = values;
+        this.sortedDocs = docs;
+        this.size = count;
+        this.nullCount = nulls;
+        this.deferred = false;
+    }
+
+    /**
+     * Docs com valor em [min, max]; limites nulos são abertos. NaN nunca casa com um intervalo.
+     */
+    BitSet range(Double min, Double max) {
+        int from = min == null ? 0 : lowerBound(min);
+        int to = max == null ? nonNullSize() : upperBound(max);
+        BitSet result = new BitSet();
+        for (int i = from; i < to; i++) {
+            result.set(sortedDocs[i]);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docAt(int position) {
+        return sortedDocs[position];
+    }
+
+    private int nonNullSize() {
+        return size - nullCount;
+    }
+
+    private void insert(int doc, double value) {
+        if (size == sortedDocs.length) {
+            int capacity = Math.max(16, size * 2);
+            sortedValues = Arrays.copyOf(sortedValues, capacity);
+            sortedDocs = Arrays.copyOf(sortedDocs, capacity);
+        }
+        int at = insertionPoint(value, doc);
+        System.arraycopy(sortedValues, at, sortedValues, at + 1, size - at);
+        System.arraycopy(sortedDocs, at, sortedDocs, at + 1, size - at);
+        sortedValues[at] = value;
+        sortedDocs[at] = doc;
+        size++;
+        if (Double.isNaN(value)) {
+            nullCount++;
+        }
+    }
+
+    /**
+     * Leva a entrada de {@code from} para a posição do novo valor, deslocando só o trecho entre as duas.
+     */
+    private void move(int from, double previous, int doc, double value) {
+        int to = insertionPoint(value, doc);
+        if (to > from) {
+            // A própria entrada antiga conta entre as menores: sai uma posição antes
+            to--;
+            System.arraycopy(sortedValues, from + 1, sortedValues, from, to - from);
+            System.arraycopy(sortedDocs, from + 1, sortedDocs, from, to - from);
+        } else {
+            System.arraycopy(sortedValues, to, sortedValues, to + 1, from - to);
+            System.arraycopy(sortedDocs, to, sortedDocs, to + 1, from - to);
+        }
+        sortedValues[to] = value;
+        sortedDocs[to] = doc;
+        nullCount += (Double.isNaN(value) ? 1 : 0) - (Double.isNaN(previous) ? 1 : 0);
+    }
+
+    /**
+     * Quantidade de entradas menores que (value, doc): a posição da entrada, se ela existir.
+     */
+    private int insertionPoint(double value, int doc) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(sortedValues[mid], sortedDocs[mid], value, doc) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = nonNullSize();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double value) {
+        int low = 0;
+        int high = nonNullSize();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(double value, int doc, double otherValue, int otherDoc) {
+        int cmp = Double.compare(value, otherValue);
+        return cmp != 0 ? cmp : Integer.compare(doc, otherDoc);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (valuesByDoc.length < capacity) {
+            int newLength = Math.max(capacity, Math.max(16, valuesByDoc.length * 2));
+            int oldLength = valuesByDoc.length;
+            valuesByDoc = Arrays.copyOf(valuesByDoc, newLength);
+            Arrays.fill(valuesByDoc, oldLength, newLength, Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.adelmonsouza.contentcatalogapi.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coluna de texto para filtros por trecho com a mesma semântica de {@code LOWER(campo) LIKE '%trecho%'}.
+ *
+ * Cada texto é guardado em minúsculas, com listas de postings por trigrama. Os trigramas do trecho
+ * só reduzem os candidatos; cada candidato é conferido com contains, então espaços, pontuação e
+ * trechos menores que um trigrama valem como no banco. Texto nulo nunca casa.
+ */
+class SubstringColumn {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private String[] textsByDoc = new String[0];
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    void set(int doc, String text) {
+        remove(doc);
+        if (text == null) {
+            return;
+        }
+        ensureCapacity(doc + 1);
+        String lower = text.toLowerCase(Locale.ROOT);
+        textsByDoc[doc] = lower;
+        for (String gram : grams(lower)) {
+            postings.computeIfAbsent(gram, key -> new BitSet()).set(doc);
+        }
+    }
+
+    void remove(int doc) {
+        if (doc >= textsByDoc.length || textsByDoc[doc] == null) {
+            return;
+        }
+        for (String gram : grams(textsByDoc[doc])) {
+            BitSet bits = postings.get(gram);
+            if (bits != null) {
+                bits.clear(doc);
+                if (bits.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        textsByDoc[doc] = null;
+    }
+
+    /**
+     * Mantém em {@code docs} só os docs cujo texto contém {@code part}, sem diferenciar maiúsculas.
+     */
+    void retainContaining(BitSet docs, String part) {
+        String lower = part.toLowerCase(Locale.ROOT);
+        for (String gram : grams(lower)) {
+            BitSet bits = postings.get(gram);
+            if (bits == null) {
+                docs.clear();
+                return;
+            }
+            docs.and(bits);
+        }
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            if (doc >= textsByDoc.length || textsByDoc[doc] == null || !textsByDoc[doc].contains(lower)) {
+                docs.clear(doc);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(text.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (textsByDoc.length < capacity) {
+            textsByDoc = Arrays.copyOf(textsByDoc, Math.max(capacity, Math.max(16, textsByDoc.length * 2)));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.BulkCreateResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.BulkItemResultDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Importação em lote a partir de NDJSON ou de um array JSON de ContentCreateDTO.
+ *
+ * O corpo é lido em streaming; registros válidos são gravados em transações de
+ * {@code catalog.bulk.chunk-size} itens. Um chunk que falha no banco é refeito registro a registro,
+ * então só os registros culpados falham e cada um leva o próprio erro. Só as falhas ficam em
+ * memória até a resposta, no máximo {@code catalog.bulk.max-failure-details} (as de menor índice):
+ * os registros criados e as falhas além disso entram apenas nas contagens.
+ */
+@Slf4j
+@Service
+public class ContentBulkImporter {
+
+    private final ContentService contentService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxFailureDetails;
+
+    public ContentBulkImporter(
+        ContentService contentService,
+        ObjectMapper objectMapper,
+        Validator validator,
+        @Value("${catalog.bulk.chunk-size:500}") int chunkSize,
+        @Value("${catalog.bulk.max-failure-details:1000}") int maxFailureDetails
+    ) {
+        this.contentService = contentService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxFailureDetails = maxFailureDetails;
+    }
+
+    public BulkCreateResponseDTO importContent(InputStream body) throws IOException {
+        Failures failures = new Failures(maxFailureDetails);
+        int created = 0;
+        List<ContentCreateDTO> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        // readValues percorre tanto valores separados por quebra de linha quanto os elementos de um array
+        try (MappingIterator<ContentCreateDTO> records = objectMapper.readerFor(ContentCreateDTO.class).readValues(body)) {
+            while (true) {
+                ContentCreateDTO dto;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    dto = records.nextValue();
+                } catch (JsonParseException ex) {
+                    failures.add(BulkItemResultDTO.failed(index, Map.of("record", "Malformed JSON: " + ex.getOriginalMessage())));
+                    break;
+                } catch (JsonMappingException ex) {
+                    failures.add(BulkItemResultDTO.failed(index++, Map.of("record", "Invalid record: " + ex.getOriginalMessage())));
+                    continue;
+                }
+
+                if (dto == null) {
+                    failures.add(BulkItemResultDTO.failed(index++, Map.of("record", "Empty record")));
+                    continue;
+                }
+                Map<String, String> errors = validate(dto);
+                if (!errors.isEmpty()) {
+                    failures.add(BulkItemResultDTO.failed(index++, errors));
+                    continue;
+                }
+
+                chunk.add(dto);
+                chunkIndexes.add(index++);
+                if (chunk.size() >= chunkSize) {
+                    created += flush(chunk, chunkIndexes, failures);
+                }
+            }
+        }
+        created += flush(chunk, chunkIndexes, failures);
+
+        List<BulkItemResultDTO> details = failures.sorted();
+        return BulkCreateResponseDTO.builder()
+            .received(index)
+            .created(created)
+            .failed(failures.count)
+            .failures(details)
+            .failuresTruncated(failures.count - details.size())
+            .build();
+    }
+
+    /**
+     * Grava o chunk e devolve quantos registros foram criados.
+     */
+    private int flush(List<ContentCreateDTO> chunk, List<Integer> chunkIndexes, Failures failures) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int created = 0;
+        try {
+            created = contentService.createContentBatch(chunk).size();
+        } catch (DataAccessException ex) {
+            log.warn("Bulk chunk of {} records failed, retrying one by one: {}",
+                chunk.size(), ex.getMostSpecificCause().getMessage());
+            created = insertEach(chunk, chunkIndexes, failures);
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+        return created;
+    }
+
+    // Uma transação por registro: um registro inválido não leva os outros do chunk junto
+    private int insertEach(List<ContentCreateDTO> chunk, List<Integer> chunkIndexes, Failures failures) {
+        int created = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                created += contentService.createContentBatch(List.of(chunk.get(i))).size();
+            } catch (DataAccessException ex) {
+                failures.add(BulkItemResultDTO.failed(chunkIndexes.get(i),
+                    Map.of("record", "Insert failed: " + ex.getMostSpecificCause().getMessage())));
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Conta todas as falhas e guarda o detalhe só das {@code limit} de menor índice. Falhas de um
+     * chunk chegam depois das de validação dos registros seguintes, então a ordem de chegada não basta.
+     */
+    private static final class Failures {
+
+        private final int limit;
+        // Topo = maior índice guardado, o primeiro a sair quando chega um menor
+        private final PriorityQueue<BulkItemResultDTO> kept =
+            new PriorityQueue<>(Comparator.comparingInt(BulkItemResultDTO::index).reversed());
+        private int count;
+
+        private Failures(int limit) {
+            this.limit = limit;
+        }
+
+        void add(BulkItemResultDTO failure) {
+            count++;
+            if (kept.size() < limit) {
+                kept.add(failure);
+            } else if (!kept.isEmpty() && failure.index() < kept.peek().index()) {
+                kept.poll();
+                kept.add(failure);
+            }
+        }
+
+        List<BulkItemResultDTO> sorted() {
+            List<BulkItemResultDTO> sorted = new ArrayList<>(kept);
+            sorted.sort(Comparator.comparingInt(BulkItemResultDTO::index));
+            return sorted;
+        }
+    }
+
+    private Map<String, String> validate(ContentCreateDTO dto) {
+        Set<ConstraintViolation<ContentCreateDTO>> violations = validator.validate(dto);
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(violation ->
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage())
+        );
+        return errors;
+    }
+}
@@ -0,0 +1,64 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetSort;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Token opaco de continuação para a paginação por keyset.
+ * Codifica ordenação, direção e a chave (valor, id) da última linha em Base64 URL-safe.
+ */
+final class ContentCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+
+    private ContentCursor() {
+    }
+
+    static String encode(KeysetSort sort, Sort.Direction direction, Content last) {
+        Comparable<?> value = sort.valueOf(last);
+        String raw = String.join(SEPARATOR,
+            sort.name(),
+            direction.name(),
+            value == null ? NULL_VALUE : value.toString(),
+            last.getId().toString()
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetPosition decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+            KeysetSort sort = KeysetSort.valueOf(parts[0]);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Comparable<?> value = NULL_VALUE.equals(parts[2]) ? null : sort.parse(parts[2]);
+            return new KeysetPosition(sort, direction, value, Long.valueOf(parts[3]));
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    static KeysetPosition firstPage(Sort sort) {
+        if (sort.isUnsorted()) {
+            return KeysetPosition.first(KeysetSort.ID, Sort.Direction.ASC);
+        }
+        if (sort.stream().count() > 1) {
+            throw new InvalidRequestException("Cursor pagination supports a single sort property");
+        }
+        Sort.Order order = sort.iterator().next();
+        KeysetSort keysetSort = KeysetSort.fromProperty(order.getProperty())
+            .orElseThrow(() -> new InvalidRequestException(
+                "Cursor pagination supports sort by id, rating, releaseYear or updatedAt"));
+        return KeysetPosition.first(keysetSort, order.getDirection());
+    }
+}
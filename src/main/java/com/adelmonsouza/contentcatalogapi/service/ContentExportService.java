@@ -0,0 +1,61 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.changefeed.ContentChangeFeed;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exporta o catálogo direto de um cursor JDBC para o OutputStream da resposta.
+ * Cada entidade é desanexada após ser escrita, então a memória não cresce com o tamanho do catálogo.
+ * A posição do change feed é tomada antes da consulta: o que for confirmado depois dela e não
+ * aparecer no export chega pelo feed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ContentExportService {
+
+    private final ContentRepository contentRepository;
+    private final ContentChangeFeed contentChangeFeed;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ContentExportService(
+        ContentRepository contentRepository,
+        ContentChangeFeed contentChangeFeed,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        @Value("${catalog.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.contentRepository = contentRepository;
+        this.contentChangeFeed = contentChangeFeed;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(SearchRequestDTO filter, ExportFormat format, OutputStream out) throws IOException {
+        String changesCursor = contentChangeFeed.head().nextCursor();
+        try (Stream<Content> rows = contentRepository.streamAll(filter, fetchSize);
+             ExportFormat.RowWriter writer = format.open(out, objectMapper, changesCursor)) {
+            Iterator<Content> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Content content = iterator.next();
+                writer.write(ContentMapper.toResponseDTO(content));
+                entityManager.detach(content);
+            }
+        }
+    }
+}
@@ -1,56 +1,191 @@
 package com.adelmonsouza.contentcatalogapi.service;
 
+import com.adelmonsouza.contentcatalogapi.cache.ContentCache;
+import com.adelmonsouza.contentcatalogapi.cache.SearchResultCache;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetResponseDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
 import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
 import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
 import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
 import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.search.ContentSearchIndex;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Leituras passam pelo {@link ContentStore} sem abrir transação aqui: o store JPA abre a sua,
+ * e um hit no cache ou no store em memória não precisa de conexão com o banco.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+@Observed(name = "catalog.service")
 public class ContentService {
     
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final String PATCH_SQL =
+        "UPDATE content SET rating = ?, duration_minutes = ?, total_episodes = ?, updated_at = ? WHERE id = ?";
+    // Ordem por id: dois lotes com ids em comum travam as linhas na mesma ordem, sem deadlock
+    private static final String LOCK_SQL = "SELECT id FROM content WHERE id IN (%s) ORDER BY id FOR UPDATE";
+    
+    // Chaves do RequestCoalescer: igualdade por valor
+    private record FieldsKey(Long id, Set<ContentField> fields) {}
+    
+    private record SearchKey(SearchRequestDTO request, Pageable pageable, Set<ContentField> fields) {}
+    
     private final ContentRepository contentRepository;
+    private final ContentStore contentStore;
+    private final ContentSearchIndex contentSearchIndex;
+    private final ContentCache contentCache;
+    private final SearchResultCache searchResultCache;
+    private final RequestCoalescer requestCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
     
     @Transactional
     public ContentResponseDTO createContent(ContentCreateDTO dto) {
-        Content content = Content.builder()
-            .title(dto.title())
-            .description(dto.description())
-            .contentType(dto.contentType())
-            .genre(dto.genre())
-            .releaseYear(dto.releaseYear())
-            .rating(dto.rating())
-            .durationMinutes(dto.durationMinutes())
-            .totalEpisodes(dto.totalEpisodes())
-            .build();
-        
-        Content saved = contentRepository.save(content);
-        return mapToResponseDTO(saved);
+        Content saved = contentRepository.save(toEntity(dto));
+        ContentResponseDTO created = ContentMapper.toResponseDTO(saved);
+        eventPublisher.publishEvent(ContentChangedEvent.created(created));
+        return created;
+    }
+    
+    @Transactional
+    public List<ContentResponseDTO> createContentBatch(List<ContentCreateDTO> dtos) {
+        List<Content> saved = contentRepository.saveAll(dtos.stream().map(this::toEntity).toList());
+        List<ContentResponseDTO> created = saved.stream()
+            .map(ContentMapper::toResponseDTO)
+            .toList();
+        created.forEach(dto -> eventPublisher.publishEvent(ContentChangedEvent.created(dto)));
+        return created;
     }
     
     public Page<ContentResponseDTO> getAllContent(Pageable pageable) {
-        return contentRepository.findAll(pageable)
-            .map(this::mapToResponseDTO);
+        return getAllContent(pageable, ContentField.ALL);
     }
     
+    /**
+     * Só as colunas pedidas saem do banco; os demais campos do DTO ficam nulos.
+     */
+    public Page<ContentResponseDTO> getAllContent(Pageable pageable, Set<ContentField> fields) {
+        return contentStore.findPage(null, queriedFields(fields), pageable);
+    }
+    
+    /**
+     * Misses simultâneos do mesmo id (um título em alta) fazem uma única consulta.
+     */
     public ContentResponseDTO getContentById(Long id) {
-        Content content = contentRepository.findById(id)
+        return contentCache.get(id, key ->
+            requestCoalescer.executeForContent("getContentById", key, key, () -> loadContent(key)));
+    }
+    
+    /**
+     * Com um subconjunto de campos, usa o cache se a linha já estiver lá; senão consulta só
+     * essas colunas, sem popular o cache com um DTO incompleto.
+     */
+    public ContentResponseDTO getContentById(Long id, Set<ContentField> fields) {
+        if (fields.containsAll(ContentField.ALL)) {
+            return getContentById(id);
+        }
+        ContentResponseDTO cached = contentCache.peek(id);
+        if (cached != null) {
+            return cached;
+        }
+        Set<ContentField> queried = queriedFields(fields);
+        return requestCoalescer.executeForContent("getContentById", id, new FieldsKey(id, queried),
+                () -> contentStore.findResponseById(id, queried))
+            .orElseThrow(() -> new ContentNotFoundException("Content not found with id: " + id));
+    }
+    
+    /**
+     * Busca em lote: hits do cache primeiro, o restante numa única consulta IN.
+     * Mantém a ordem do pedido (sem repetir ids) e devolve os ids inexistentes em vez de lançar 404.
+     */
+    public BatchGetResponseDTO getContentByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        // GET /batch?ids=1,,2 chega aqui sem a validação do corpo do batch-get
+        if (requested.contains(null)) {
+            throw new InvalidRequestException("Ids must not be null");
+        }
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_SIZE + " ids per batch");
+        }
+        Map<Long, ContentResponseDTO> found = contentCache.getAll(requested, this::loadContents);
+        
+        List<ContentResponseDTO> content = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            ContentResponseDTO item = found.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchGetResponseDTO(content, missingIds);
+    }
+    
+    /**
+     * updatedAt usado em requisições condicionais, sem carregar a linha inteira.
+     */
+    public LocalDateTime getContentLastModified(Long id) {
+        ContentResponseDTO cached = contentCache.peek(id);
+        if (cached != null) {
+            return cached.updatedAt();
+        }
+        return contentStore.findUpdatedAtById(id)
+            .orElseThrow(() -> new ContentNotFoundException("Content not found with id: " + id));
+    }
+    
+    private ContentResponseDTO loadContent(Long id) {
+        return contentStore.findResponseById(id, ContentField.ALL)
             .orElseThrow(() -> new ContentNotFoundException("Content not found with id: " + id));
-        return mapToResponseDTO(content);
+    }
+    
+    private Map<Long, ContentResponseDTO> loadContents(Set<Long> ids) {
+        return contentStore.findResponsesByIds(ids, ContentField.ALL).stream()
+            .collect(Collectors.toMap(ContentResponseDTO::id, Function.identity()));
     }
     
     @Transactional
     public ContentResponseDTO updateContent(Long id, ContentCreateDTO dto) {
         Content content = contentRepository.findById(id)
             .orElseThrow(() -> new ContentNotFoundException("Content not found with id: " + id));
+        ContentResponseDTO previous = ContentMapper.toResponseDTO(content);
         
         content.setTitle(dto.title());
         content.setDescription(dto.description());
@@ -61,46 +196,163 @@ public class ContentService {
         content.setDurationMinutes(dto.durationMinutes());
         content.setTotalEpisodes(dto.totalEpisodes());
         
-        Content updated = contentRepository.save(content);
-        return mapToResponseDTO(updated);
+        // O flush dispara o @PreUpdate: o DTO e o evento saem com o updatedAt novo
+        Content saved = contentRepository.saveAndFlush(content);
+        ContentResponseDTO updated = ContentMapper.toResponseDTO(saved);
+        eventPublisher.publishEvent(ContentChangedEvent.updated(previous, updated));
+        return updated;
     }
     
+    /**
+     * Aplica as atualizações parciais de um lote do {@link ContentWriteBuffer} numa transação:
+     * um SELECT ... IN para todas as linhas e um UPDATE só das colunas do patch por linha alterada,
+     * em batch JDBC. Sem entidades gerenciadas, o dirty checking não reescreve as demais colunas
+     * e um PUT concorrente em title ou genre não é desfeito. Devolve o estado resultante por id;
+     * ids inexistentes ficam fora do mapa.
+     *
+     * As linhas são travadas (FOR UPDATE) antes da leitura: um PUT que confirme entre o SELECT e o
+     * UPDATE faria o evento e o retorno levarem o title/genre antigos com o updatedAt novo, e os
+     * listeners (índice, MemoryContentStore...) guardariam essa linha até a próxima escrita no id.
+     */
     @Transactional
-    public void deleteContent(Long id) {
-        if (!contentRepository.existsById(id)) {
-            throw new ContentNotFoundException("Content not found with id: " + id);
+    public Map<Long, ContentResponseDTO> patchContent(Map<Long, ContentPatchDTO> patches) {
+        // Mesma precisão do @PreUpdate: o Postgres guarda microssegundos
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Long, ContentResponseDTO> updated = new HashMap<>();
+        List<ContentChangedEvent> events = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        if (patches.isEmpty()) {
+            return updated;
         }
-        contentRepository.deleteById(id);
+        String placeholders = String.join(", ", Collections.nCopies(patches.size(), "?"));
+        jdbcTemplate.queryForList(LOCK_SQL.formatted(placeholders), Long.class, patches.keySet().toArray());
+        for (ContentResponseDTO before : contentRepository.findResponsesByIds(patches.keySet(), ContentField.ALL)) {
+            ContentResponseDTO current = applyPatch(before, patches.get(before.id()), now);
+            updated.put(before.id(), current);
+            if (current != before) {
+                rows.add(new Object[] {current.rating(), current.durationMinutes(), current.totalEpisodes(), now, current.id()});
+                events.add(ContentChangedEvent.updated(before, current));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(PATCH_SQL, rows);
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return updated;
+    }
+    
+    @Transactional
+    public void deleteContent(Long id) {
+        // Carrega a linha para que o evento leve os valores removidos (contadores de facetas)
+        Content content = contentRepository.findById(id)
+            .orElseThrow(() -> new ContentNotFoundException("Content not found with id: " + id));
+        ContentResponseDTO previous = ContentMapper.toResponseDTO(content);
+        contentRepository.delete(content);
+        eventPublisher.publishEvent(ContentChangedEvent.deleted(id, previous));
     }
     
     public Page<ContentResponseDTO> searchContent(SearchRequestDTO searchRequest, Pageable pageable) {
-        Page<Content> contentPage = contentRepository.searchContent(
-            searchRequest.title(),
-            searchRequest.contentType(),
-            searchRequest.genre(),
-            searchRequest.minYear(),
-            searchRequest.maxYear(),
-            searchRequest.minRating(),
-            pageable
-        );
+        return searchContent(searchRequest, pageable, ContentField.ALL);
+    }
+    
+    /**
+     * Páginas repetidas vêm do SearchResultCache; nas faltas, buscas equivalentes simultâneas
+     * (mesmo filtro canônico, página e campos) compartilham uma execução.
+     */
+    public Page<ContentResponseDTO> searchContent(SearchRequestDTO searchRequest, Pageable pageable, Set<ContentField> fields) {
+        Set<ContentField> queried = queriedFields(fields);
+        SearchRequestDTO normalized = searchRequest == null ? null : searchRequest.normalized();
+        return searchResultCache.get(searchRequest, pageable, queried, () ->
+            requestCoalescer.executeForSearch("searchContent", normalized, new SearchKey(normalized, pageable, queried), () -> {
+                if (contentSearchIndex.canServe(pageable)) {
+                    return searchWithIndex(searchRequest, pageable, queried);
+                }
+                return contentStore.findPage(searchRequest, queried, pageable);
+            }));
+    }
+    
+    public CursorPageDTO<ContentResponseDTO> getAllContentByCursor(String cursor, Sort sort, int size) {
+        return searchContentByCursor(null, cursor, sort, size);
+    }
+    
+    public CursorPageDTO<ContentResponseDTO> searchContentByCursor(
+        SearchRequestDTO searchRequest,
+        String cursor,
+        Sort sort,
+        int size
+    ) {
+        KeysetPosition position = cursor == null || cursor.isBlank()
+            ? ContentCursor.firstPage(sort)
+            : ContentCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
         
-        return contentPage.map(this::mapToResponseDTO);
-    }
-    
-    private ContentResponseDTO mapToResponseDTO(Content content) {
-        return ContentResponseDTO.builder()
-            .id(content.getId())
-            .title(content.getTitle())
-            .description(content.getDescription())
-            .contentType(content.getContentType())
-            .genre(content.getGenre())
-            .releaseYear(content.getReleaseYear())
-            .rating(content.getRating())
-            .durationMinutes(content.getDurationMinutes())
-            .totalEpisodes(content.getTotalEpisodes())
-            .createdAt(content.getCreatedAt())
-            .updatedAt(content.getUpdatedAt())
+        Slice<Content> slice = contentStore.findSlice(searchRequest, position, pageSize);
+        String nextCursor = slice.hasNext()
+            ? ContentCursor.encode(position.sort(), position.direction(), slice.getContent().get(slice.getNumberOfElements() - 1))
+            : null;
+        
+        return new CursorPageDTO<>(
+            slice.map(ContentMapper::toResponseDTO).getContent(),
+            pageSize,
+            slice.hasNext(),
+            nextCursor
+        );
+    }
+    
+    // updatedAt sempre vem do banco: é a base dos ETags, mesmo quando não vai para o JSON
+    private static Set<ContentField> queriedFields(Set<ContentField> fields) {
+        if (fields.contains(ContentField.UPDATED_AT)) {
+            return fields;
+        }
+        EnumSet<ContentField> queried = EnumSet.of(ContentField.UPDATED_AT);
+        queried.addAll(fields);
+        return queried;
+    }
+    
+    /**
+     * Devolve o próprio {@code content} se nenhum valor mudar: sem mudança não há UPDATE nem evento.
+     */
+    private static ContentResponseDTO applyPatch(ContentResponseDTO content, ContentPatchDTO patch, LocalDateTime now) {
+        boolean changed = false;
+        ContentResponseDTO.ContentResponseDTOBuilder patched = content.toBuilder().updatedAt(now);
+        if (patch.rating() != null && !patch.rating().equals(content.rating())) {
+            patched.rating(patch.rating());
+            changed = true;
+        }
+        if (patch.durationMinutes() != null && !patch.durationMinutes().equals(content.durationMinutes())) {
+            patched.durationMinutes(patch.durationMinutes());
+            changed = true;
+        }
+        if (patch.totalEpisodes() != null && !patch.totalEpisodes().equals(content.totalEpisodes())) {
+            patched.totalEpisodes(patch.totalEpisodes());
+            changed = true;
+        }
+        return changed ? patched.build() : content;
+    }
+    
+    private Content toEntity(ContentCreateDTO dto) {
+        return Content.builder()
+            .title(dto.title())
+            .description(dto.description())
+            .contentType(dto.contentType())
+            .genre(dto.genre())
+            .releaseYear(dto.releaseYear())
+            .rating(dto.rating())
+            .durationMinutes(dto.durationMinutes())
+            .totalEpisodes(dto.totalEpisodes())
             .build();
     }
+    
+    private Page<ContentResponseDTO> searchWithIndex(SearchRequestDTO searchRequest, Pageable pageable,
+                                                     Set<ContentField> fields) {
+        ContentSearchIndex.SearchHits hits = contentSearchIndex.search(searchRequest, pageable);
+        Map<Long, ContentResponseDTO> rows = contentStore.findResponsesByIds(hits.ids(), fields).stream()
+            .collect(Collectors.toMap(ContentResponseDTO::id, Function.identity()));
+        
+        List<ContentResponseDTO> content = hits.ids().stream()
+            .map(rows::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PageImpl<>(content, pageable, hits.total());
+    }
 }
-
@@ -0,0 +1,193 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.exception.WriteBufferFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Buffer de atualizações parciais (PATCH) gravadas em lote.
+ *
+ * Atualizações do mesmo id se juntam enquanto esperam; o lote vai ao banco quando chega a
+ * {@code batch-size} ids ou a cada {@code flush-interval}, numa transação por lote
+ * ({@link ContentService#patchContent}). Os flushes rodam numa única thread (virtual com
+ * {@code spring.threads.virtual.enabled}), então lotes sucessivos são aplicados na ordem em que
+ * chegaram. Com {@code capacity} ids pendentes, novos ids são recusados com
+ * {@link WriteBufferFullException} (503) até o próximo flush.
+ */
+@Slf4j
+@Component
+public class ContentWriteBuffer {
+
+    private final ContentService contentService;
+    private final int batchSize;
+    private final int capacity;
+    private final ExecutorService flusher;
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final Object lock = new Object();
+    private Map<Long, PendingWrite> pending = new LinkedHashMap<>();
+
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public ContentWriteBuffer(
+        ContentService contentService,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.write-buffer.batch-size:500}") int batchSize,
+        @Value("${catalog.write-buffer.capacity:10000}") int capacity,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.contentService = contentService;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        ThreadFactory threads = virtualThreads
+            ? new VirtualThreadTaskExecutor("content-write-buffer-").getVirtualThreadFactory()
+            : runnable -> new Thread(runnable, "content-write-buffer");
+        this.flusher = Executors.newSingleThreadExecutor(threads);
+        this.coalesced = meterRegistry.counter("catalog.write-buffer.coalesced");
+        this.rejected = meterRegistry.counter("catalog.write-buffer.rejected");
+        this.failed = meterRegistry.counter("catalog.write-buffer.failed");
+        this.flushTimer = meterRegistry.timer("catalog.write-buffer.flush");
+        Gauge.builder("catalog.write-buffer.pending", this, ContentWriteBuffer::pendingCount)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a atualização. O future completa com o conteúdo resultante após o commit do lote,
+     * ou com {@link ContentNotFoundException} se o id não existir mais.
+     */
+    public CompletableFuture<ContentResponseDTO> submit(Long id, ContentPatchDTO patch) {
+        CompletableFuture<ContentResponseDTO> result = new CompletableFuture<>();
+        boolean full;
+        synchronized (lock) {
+            PendingWrite current = pending.get(id);
+            if (current != null) {
+                current.merge(patch, result);
+                coalesced.increment();
+            } else if (pending.size() >= capacity) {
+                rejected.increment();
+                throw new WriteBufferFullException("Write buffer is full, retry later");
+            } else {
+                pending.put(id, new PendingWrite(patch, result));
+            }
+            full = pending.size() >= batchSize;
+        }
+        if (full) {
+            requestFlush();
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.write-buffer.flush-interval:PT0.2S}")
+    public void requestFlush() {
+        if (flushQueued.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Grava o que estiver pendente, em lotes de {@code batch-size}.
+     */
+    void flush() {
+        flushQueued.set(false);
+        Map<Long, PendingWrite> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            Map<Long, PendingWrite> chunk = new LinkedHashMap<>();
+            ids.subList(from, Math.min(from + batchSize, ids.size())).forEach(id -> chunk.put(id, batch.get(id)));
+            write(chunk);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        // Atualizações já confirmadas como BUFFERED vão ao banco antes de o processo sair
+        flusher.execute(this::flush);
+        flusher.shutdown();
+        if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Write buffer did not flush within 30s; {} updates lost", pendingCount());
+        }
+    }
+
+    private void write(Map<Long, PendingWrite> chunk) {
+        Map<Long, ContentPatchDTO> patches = new LinkedHashMap<>();
+        chunk.forEach((id, write) -> patches.put(id, write.patch));
+        Map<Long, ContentResponseDTO> updated;
+        try {
+            updated = flushTimer.recordCallable(() -> contentService.patchContent(patches));
+        } catch (Exception e) {
+            log.error("Failed to write {} buffered content updates", chunk.size(), e);
+            failed.increment(chunk.size());
+            chunk.values().forEach(write -> write.fail(e));
+            return;
+        }
+        chunk.forEach((id, write) -> {
+            ContentResponseDTO content = updated.get(id);
+            if (content != null) {
+                write.complete(content);
+            } else {
+                write.fail(new ContentNotFoundException("Content not found with id: " + id));
+            }
+        });
+    }
+
+    private int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private ContentPatchDTO patch;
+        private final List<CompletableFuture<ContentResponseDTO>> waiters = new ArrayList<>(1);
+
+        private PendingWrite(ContentPatchDTO patch, CompletableFuture<ContentResponseDTO> waiter) {
+            this.patch = patch;
+            this.waiters.add(waiter);
+        }
+
+        void merge(ContentPatchDTO later, CompletableFuture<ContentResponseDTO> waiter) {
+            patch = patch.merge(later);
+            waiters.add(waiter);
+        }
+
+        void complete(ContentResponseDTO content) {
+            waiters.forEach(waiter -> waiter.complete(content));
+        }
+
+        void fail(Throwable error) {
+            waiters.forEach(waiter -> waiter.completeExceptionally(error));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.store.ContentSnapshotWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        RowWriter open(OutputStream out, ObjectMapper objectMapper, String changesCursor) throws IOException {
+            SequenceWriter writer = objectMapper.writerFor(ContentResponseDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+            return new RowWriter() {
+                @Override
+                public void write(ContentResponseDTO content) throws IOException {
+                    writer.write(content);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    },
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv") {
+        @Override
+        RowWriter open(OutputStream out, ObjectMapper objectMapper, String changesCursor) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,title,description,contentType,genre,releaseYear,rating,durationMinutes,totalEpisodes,createdAt,updatedAt\n");
+            return new RowWriter() {
+                @Override
+                public void write(ContentResponseDTO content) throws IOException {
+                    writer.write(csvLine(content));
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    },
+    /**
+     * Snapshot binário colunar para o store em memória (ver ContentSnapshotWriter): mapeado direto
+     * do disco na inicialização, bem mais rápido de carregar que NDJSON. Leva no cabeçalho a
+     * posição do change feed de onde o store segue depois de carregar.
+     */
+    SNAPSHOT(MediaType.APPLICATION_OCTET_STREAM, "snap") {
+        @Override
+        RowWriter open(OutputStream out, ObjectMapper objectMapper, String changesCursor) {
+            ContentSnapshotWriter writer = new ContentSnapshotWriter(out, changesCursor);
+            return new RowWriter() {
+                @Override
+                public void write(ContentResponseDTO content) {
+                    writer.write(content);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @param changesCursor posição do change feed antes da leitura; só o snapshot a grava
+     */
+    abstract RowWriter open(OutputStream out, ObjectMapper objectMapper, String changesCursor) throws IOException;
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+            .filter(format -> format.name().equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestException("Unsupported export format: " + value));
+    }
+
+    interface RowWriter extends Closeable {
+        void write(ContentResponseDTO content) throws IOException;
+    }
+
+    static String csvLine(ContentResponseDTO content) {
+        return String.join(",",
+            csv(content.id()),
+            csv(content.title()),
+            csv(content.description()),
+            csv(content.contentType()),
+            csv(content.genre()),
+            csv(content.releaseYear()),
+            csv(content.rating()),
+            csv(content.durationMinutes()),
+            csv(content.totalEpisodes()),
+            csv(content.createdAt()),
+            csv(content.updatedAt())
+        ) + "\n";
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,173 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.cache.SearchGenerations;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight para leituras: chamadas simultâneas com a mesma operação e a mesma chave
+ * compartilham uma única execução no banco e o seu resultado (ou exceção).
+ *
+ * A primeira chamada de uma chave executa a leitura na própria thread; as que chegam enquanto ela
+ * está em andamento esperam por ela. Cada chave tem seu próprio voo, então uma chave lenta não
+ * segura as demais, e cada chamada espera no máximo {@code catalog.coalescing.timeout}: depois
+ * disso ela faz a própria leitura em vez de falhar.
+ *
+ * Escritas confirmadas avançam uma geração que faz parte da chave. Uma leitura que começa depois
+ * do commit nunca reaproveita um voo iniciado antes dele e, portanto, sempre vê a escrita. A geração
+ * é a do escopo que a escrita pode afetar: a do id em {@link #executeForContent}, a da faceta do
+ * filtro em {@link #executeForSearch} (a mesma {@link SearchGenerations} do SearchResultCache).
+ * Assim, escritas em outros ids ou gêneros não quebram os voos de um título em alta.
+ *
+ * Métricas: catalog.coalescing.requests{operation, result=leader|coalesced|timeout} e o gauge
+ * catalog.coalescing.in-flight.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<FlightKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    // Gerações por id em faixas: colisões só separam voos a mais, e a memória não cresce com os ids escritos
+    private static final int ID_STRIPES = 1024;
+
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final AtomicLongArray idGenerations = new AtomicLongArray(ID_STRIPES);
+    private final SearchGenerations searchGenerations;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration timeout;
+
+    public RequestCoalescer(
+        MeterRegistry meterRegistry,
+        SearchGenerations searchGenerations,
+        @Value("${catalog.coalescing.enabled:true}") boolean enabled,
+        @Value("${catalog.coalescing.timeout:2s}") Duration timeout
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.searchGenerations = searchGenerations;
+        Gauge.builder("catalog.coalescing.in-flight", flights, Map::size).register(meterRegistry);
+    }
+
+    private record FlightKey(String operation, Object key, long generation) {}
+
+    /**
+     * {@code key} precisa de equals/hashCode por valor (records, PageRequest, EnumSet...).
+     * Qualquer escrita confirmada separa os voos; ver os métodos com escopo abaixo.
+     */
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        return execute(operation, key, globalGeneration.get(), loader);
+    }
+
+    /**
+     * Leitura de um único conteúdo: só escritas em {@code id} separam os voos.
+     */
+    public <T> T executeForContent(String operation, Long id, Object key, Supplier<T> loader) {
+        return execute(operation, key, idGenerations.get(stripe(id)), loader);
+    }
+
+    /**
+     * Busca: só escritas no genre (senão no contentType) do filtro separam os voos; sem nenhum dos
+     * dois, qualquer escrita. A separação vale a partir do fim da transação de escrita (ver
+     * {@link SearchGenerations}). {@code filter} deve ser o canônico, o mesmo que vai na chave.
+     */
+    public <T> T executeForSearch(String operation, SearchRequestDTO filter, Object key, Supplier<T> loader) {
+        return execute(operation, key, searchGenerations.generation(filter), loader);
+    }
+
+    private <T> T execute(String operation, Object key, long generation, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        FlightKey flightKey = new FlightKey(operation, key, generation);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = flights.putIfAbsent(flightKey, flight);
+        if (inFlight == null) {
+            return lead(flightKey, flight, loader);
+        }
+        return follow(operation, inFlight, loader);
+    }
+
+    /**
+     * Mudanças confirmadas: novas leituras passam a formar voos novos. Roda antes das invalidações
+     * do ContentCache, para que um carregamento que veja o cache já invalidado não reaproveite
+     * um voo anterior à escrita.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.contentId() != null) {
+            idGenerations.incrementAndGet(stripe(event.contentId()));
+        }
+        globalGeneration.incrementAndGet();
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (ID_STRIPES - 1);
+    }
+
+    private <T> T lead(FlightKey flightKey, CompletableFuture<Object> flight, Supplier<T> loader) {
+        counter(flightKey.operation(), "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flightKey, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T follow(String operation, CompletableFuture<Object> flight, Supplier<T> loader) {
+        try {
+            T result = (T) flight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            counter(operation, "coalesced").increment();
+            return result;
+        } catch (TimeoutException e) {
+            counter(operation, "timeout").increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            // Mesma exceção do líder (ex.: ContentNotFoundException vira 404 para todos)
+            counter(operation, "coalesced").increment();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced read", e);
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return counters.computeIfAbsent(operation + ':' + result, name ->
+            meterRegistry.counter("catalog.coalescing.requests", "operation", operation, "result", result));
+    }
+}
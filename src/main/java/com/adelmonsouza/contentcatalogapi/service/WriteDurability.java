@@ -0,0 +1,26 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * Quando uma atualização enviada ao {@link ContentWriteBuffer} é confirmada ao cliente.
+ */
+public enum WriteDurability {
+    /**
+     * Confirma assim que a atualização entra no buffer; ela se perde se o processo cair antes do flush.
+     */
+    BUFFERED,
+    /**
+     * Confirma depois do commit do lote que contém a atualização, com o conteúdo resultante.
+     */
+    COMMITTED;
+
+    public static WriteDurability from(String value) {
+        return Arrays.stream(values())
+            .filter(durability -> durability.name().equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new InvalidRequestException("Unsupported durability: " + value));
+    }
+}
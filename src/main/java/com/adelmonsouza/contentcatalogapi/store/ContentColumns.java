@@ -0,0 +1,341 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Catálogo em colunas: a linha i descreve o conteúdo ids[i], com ids em ordem crescente.
+ *
+ * Números ficam em arrays primitivos com sentinelas para nulo (NaN, {@link #NULL_INT},
+ * {@link #NULL_TIME}), o tipo como ordinal, o gênero como código de um dicionário e as datas
+ * em microssegundos. Exclusões só marcam a linha; {@link #compact()} remove as marcadas.
+ * Não é thread-safe: o MemoryContentStore serializa escritas com um lock.
+ */
+final class ContentColumns {
+
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final ContentType[] TYPES = ContentType.values();
+
+    long[] ids;
+    String[] titles;
+    String[] descriptions;
+    byte[] contentTypes;
+    int[] genres;
+    int[] releaseYears;
+    double[] ratings;
+    int[] durations;
+    int[] episodes;
+    long[] createdAt;
+    long[] updatedAt;
+    boolean[] deleted;
+    int size;
+    int deletedCount;
+
+    final List<String> genreNames;
+    final Map<String, Integer> genreCodes;
+
+    ContentColumns(int capacity) {
+        this(capacity, new ArrayList<>(), new HashMap<>());
+    }
+
+    private ContentColumns(int capacity, List<String> genreNames, Map<String, Integer> genreCodes) {
+        ids = new long[capacity];
+        titles = new String[capacity];
+        descriptions = new String[capacity];
+        contentTypes = new byte[capacity];
+        genres = new int[capacity];
+        releaseYears = new int[capacity];
+        ratings = new double[capacity];
+        durations = new int[capacity];
+        episodes = new int[capacity];
+        createdAt = new long[capacity];
+        updatedAt = new long[capacity];
+        deleted = new boolean[capacity];
+        this.genreNames = genreNames;
+        this.genreCodes = genreCodes;
+    }
+
+    int liveCount() {
+        return size - deletedCount;
+    }
+
+    /**
+     * Posição do id, ou {@code -(ponto de inserção) - 1} como em {@link Arrays#binarySearch}.
+     */
+    int find(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    int findLive(long id) {
+        int row = find(id);
+        return row >= 0 && !deleted[row] ? row : -1;
+    }
+
+    /**
+     * Carga inicial: não exige ordem, {@link #sortedById()} corrige no fim.
+     */
+    void append(ContentResponseDTO content) {
+        ensureCapacity(size + 1);
+        set(size++, content);
+    }
+
+    void upsert(ContentResponseDTO content) {
+        int row = find(content.id());
+        if (row >= 0) {
+            if (deleted[row]) {
+                deleted[row] = false;
+                deletedCount--;
+            }
+            set(row, content);
+            return;
+        }
+        int at = -row - 1;
+        ensureCapacity(size + 1);
+        if (at < size) {
+            shiftRight(at);
+        }
+        size++;
+        set(at, content);
+    }
+
+    void remove(long id) {
+        int row = findLive(id);
+        if (row >= 0) {
+            deleted[row] = true;
+            titles[row] = null;
+            descriptions[row] = null;
+            deletedCount++;
+        }
+    }
+
+    ContentColumns compact() {
+        int[] live = new int[liveCount()];
+        int next = 0;
+        for (int row = 0; row < size; row++) {
+            if (!deleted[row]) {
+                live[next++] = row;
+            }
+        }
+        return select(live);
+    }
+
+    ContentColumns sortedById() {
+        for (int row = 1; row < size; row++) {
+            if (ids[row - 1] >= ids[row]) {
+                int[] order = IntStream.range(0, size).boxed()
+                    .sorted((a, b) -> Long.compare(ids[a], ids[b]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+                return select(order);
+            }
+        }
+        return this;
+    }
+
+    ContentResponseDTO toResponse(int row) {
+        return ContentResponseDTO.builder()
+            .id(ids[row])
+            .title(titles[row])
+            .description(descriptions[row])
+            .contentType(contentType(row))
+            .genre(genre(row))
+            .releaseYear(nullableInt(releaseYears[row]))
+            .rating(rating(row))
+            .durationMinutes(nullableInt(durations[row]))
+            .totalEpisodes(nullableInt(episodes[row]))
+            .createdAt(time(createdAt[row]))
+            .updatedAt(time(updatedAt[row]))
+            .build();
+    }
+
+    Content toEntity(int row) {
+        return Content.builder()
+            .id(ids[row])
+            .title(titles[row])
+            .description(descriptions[row])
+            .contentType(contentType(row))
+            .genre(genre(row))
+            .releaseYear(nullableInt(releaseYears[row]))
+            .rating(rating(row))
+            .durationMinutes(nullableInt(durations[row]))
+            .totalEpisodes(nullableInt(episodes[row]))
+            .createdAt(time(createdAt[row]))
+            .updatedAt(time(updatedAt[row]))
+            .build();
+    }
+
+    /**
+     * Valor do campo na linha, com o mesmo tipo da propriedade da entidade.
+     */
+    Object value(int row, ContentField field) {
+        return switch (field) {
+            case ID -> ids[row];
+            case TITLE -> titles[row];
+            case DESCRIPTION -> descriptions[row];
+            case CONTENT_TYPE -> contentType(row);
+            case GENRE -> genre(row);
+            case RELEASE_YEAR -> nullableInt(releaseYears[row]);
+            case RATING -> rating(row);
+            case DURATION_MINUTES -> nullableInt(durations[row]);
+            case TOTAL_EPISODES -> nullableInt(episodes[row]);
+            case CREATED_AT -> time(createdAt[row]);
+            case UPDATED_AT -> time(updatedAt[row]);
+        };
+    }
+
+    /**
+     * Teste de nulo pelas sentinelas, sem criar o valor.
+     */
+    boolean isNull(int row, ContentField field) {
+        return switch (field) {
+            case ID -> false;
+            case TITLE -> titles[row] == null;
+            case DESCRIPTION -> descriptions[row] == null;
+            case CONTENT_TYPE -> contentTypes[row] < 0;
+            case GENRE -> genres[row] < 0;
+            case RELEASE_YEAR -> releaseYears[row] == NULL_INT;
+            case RATING -> Double.isNaN(ratings[row]);
+            case DURATION_MINUTES -> durations[row] == NULL_INT;
+            case TOTAL_EPISODES -> episodes[row] == NULL_INT;
+            case CREATED_AT -> createdAt[row] == NULL_TIME;
+            case UPDATED_AT -> updatedAt[row] == NULL_TIME;
+        };
+    }
+
+    ContentType contentType(int row) {
+        return contentTypes[row] < 0 ? null : TYPES[contentTypes[row]];
+    }
+
+    String genre(int row) {
+        return genres[row] < 0 ? null : genreNames.get(genres[row]);
+    }
+
+    Double rating(int row) {
+        return Double.isNaN(ratings[row]) ? null : ratings[row];
+    }
+
+    LocalDateTime updatedAt(int row) {
+        return time(updatedAt[row]);
+    }
+
+    /**
+     * Código do gênero no dicionário, ou -1 se nenhuma linha tem esse gênero.
+     */
+    int genreCode(String genre) {
+        return genreCodes.getOrDefault(genre, -1);
+    }
+
+    private void set(int row, ContentResponseDTO content) {
+        ids[row] = content.id();
+        titles[row] = content.title();
+        descriptions[row] = content.description();
+        contentTypes[row] = content.contentType() == null ? -1 : (byte) content.contentType().ordinal();
+        genres[row] = content.genre() == null ? -1 : genreCodes.computeIfAbsent(content.genre(), name -> {
+            genreNames.add(name);
+            return genreNames.size() - 1;
+        });
+        releaseYears[row] = intOrNull(content.releaseYear());
+        ratings[row] = content.rating() == null ? Double.NaN : content.rating();
+        durations[row] = intOrNull(content.durationMinutes());
+        episodes[row] = intOrNull(content.totalEpisodes());
+        createdAt[row] = micros(content.createdAt());
+        updatedAt[row] = micros(content.updatedAt());
+        deleted[row] = false;
+    }
+
+    private ContentColumns select(int[] rows) {
+        ContentColumns selected = new ContentColumns(Math.max(rows.length, 16), genreNames, genreCodes);
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            selected.ids[i] = ids[row];
+            selected.titles[i] = titles[row];
+            selected.descriptions[i] = descriptions[row];
+            selected.contentTypes[i] = contentTypes[row];
+            selected.genres[i] = genres[row];
+            selected.releaseYears[i] = releaseYears[row];
+            selected.ratings[i] = ratings[row];
+            selected.durations[i] = durations[row];
+            selected.episodes[i] = episodes[row];
+            selected.createdAt[i] = createdAt[row];
+            selected.updatedAt[i] = updatedAt[row];
+            selected.deleted[i] = deleted[row];
+            if (deleted[row]) {
+                selected.deletedCount++;
+            }
+        }
+        selected.size = rows.length;
+        return selected;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, Math.max(16, ids.length + (ids.length >> 1)));
+        ids = Arrays.copyOf(ids, grown);
+        titles = Arrays.copyOf(titles, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+        contentTypes = Arrays.copyOf(contentTypes, grown);
+        genres = Arrays.copyOf(genres, grown);
+        releaseYears = Arrays.copyOf(releaseYears, grown);
+        ratings = Arrays.copyOf(ratings, grown);
+        durations = Arrays.copyOf(durations, grown);
+        episodes = Arrays.copyOf(episodes, grown);
+        createdAt = Arrays.copyOf(createdAt, grown);
+        updatedAt = Arrays.copyOf(updatedAt, grown);
+        deleted = Arrays.copyOf(deleted, grown);
+    }
+
+    // Ids vêm de uma sequence, então inserir no meio (blocos de outra instância) é raro
+    private void shiftRight(int at) {
+        int length = size - at;
+        System.arraycopy(ids, at, ids, at + 1, length);
+        System.arraycopy(titles, at, titles, at + 1, length);
+        System.arraycopy(descriptions, at, descriptions, at + 1, length);
+        System.arraycopy(contentTypes, at, contentTypes, at + 1, length);
+        System.arraycopy(genres, at, genres, at + 1, length);
+        System.arraycopy(releaseYears, at, releaseYears, at + 1, length);
+        System.arraycopy(ratings, at, ratings, at + 1, length);
+        System.arraycopy(durations, at, durations, at + 1, length);
+        System.arraycopy(episodes, at, episodes, at + 1, length);
+        System.arraycopy(createdAt, at, createdAt, at + 1, length);
+        System.arraycopy(updatedAt, at, updatedAt, at + 1, length);
+        System.arraycopy(deleted, at, deleted, at + 1, length);
+    }
+
+    private static int intOrNull(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    private static Integer nullableInt(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime time(long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
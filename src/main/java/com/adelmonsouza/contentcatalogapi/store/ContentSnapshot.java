@@ -0,0 +1,368 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binário do snapshot do catálogo, lido via {@link FileChannel#map}.
+ *
+ * <pre>
+ * cabeçalho   magic "CCATSNAP", versão (int), linhas (int), tipos (int), gêneros (int), início do export (long, µs)
+ * posição     cursor do change feed tomado antes da leitura, como tabela de uma string (nula se desconhecido)
+ * dicionários nomes de ContentType e de gêneros, como tabelas de strings
+ * colunas     ids, createdAt, updatedAt (long), ratings (double), releaseYears, durations,
+ *             episodes, genres (int), contentTypes (byte), nas sentinelas de {@link ContentColumns}
+ * strings     títulos e descrições: bitmap de nulos, offsets (long, n + 1) e o heap UTF-8
+ * trailer     CRC32C de tudo o que vem antes (long)
+ * </pre>
+ *
+ * Tudo em little-endian, com cada seção alinhada a 8 bytes. Os códigos de tipo apontam para o
+ * dicionário do arquivo, não para os ordinais do enum, então reordenar ContentType não invalida
+ * snapshots antigos. Uma versão diferente de {@link #VERSION} é recusada.
+ *
+ * Toda mudança confirmada depois da posição aparece no change feed a partir dela; o store em
+ * memória segue o feed dali para alcançar o que o export não viu.
+ */
+final class ContentSnapshot {
+
+    static final int VERSION = 2;
+
+    private static final byte[] MAGIC = "CCATSNAP".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = 32;
+    private static final int TRAILER_SIZE = 8;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private ContentSnapshot() {
+    }
+
+    /**
+     * Colunas lidas e a posição do change feed em que o export começou.
+     */
+    record Contents(ContentColumns columns, String changesCursor, long exportStartedAtMicros) {}
+
+    /**
+     * Verifica só o magic, para escolher entre este formato e NDJSON.
+     */
+    static boolean isSnapshot(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Mapeia o arquivo quando o resource é um arquivo local; caso contrário lê tudo para o heap.
+     */
+    static Contents read(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return read(resource.getFile().toPath());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return read(ByteBuffer.wrap(in.readAllBytes()));
+        }
+    }
+
+    static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ContentSnapshotException("Snapshot larger than 2 GB is not supported: " + path);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(mapped);
+        }
+    }
+
+    static Contents read(ByteBuffer source) throws IOException {
+        ByteBuffer buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE + TRAILER_SIZE) {
+            throw new ContentSnapshotException("Snapshot truncated: " + buffer.remaining() + " bytes");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new ContentSnapshotException("Not a content snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new ContentSnapshotException("Unsupported snapshot version " + version + " (expected " + VERSION + ")");
+        }
+        verifyChecksum(buffer);
+
+        int rows = buffer.getInt();
+        int typeCount = buffer.getInt();
+        int genreCount = buffer.getInt();
+        long exportStartedAt = buffer.getLong();
+        String changesCursor = readStrings(buffer, 1).get(0);
+
+        byte[] typeCodes = typeCodes(readStrings(buffer, typeCount));
+        List<String> genreNames = readStrings(buffer, genreCount);
+
+        ContentColumns columns = new ContentColumns(rows);
+        for (String genre : genreNames) {
+            columns.genreCodes.put(genre, columns.genreNames.size());
+            columns.genreNames.add(genre);
+        }
+        buffer.asLongBuffer().get(columns.ids, 0, rows);
+        skip(buffer, rows * 8L);
+        buffer.asLongBuffer().get(columns.createdAt, 0, rows);
+        skip(buffer, rows * 8L);
+        buffer.asLongBuffer().get(columns.updatedAt, 0, rows);
+        skip(buffer, rows * 8L);
+        buffer.asDoubleBuffer().get(columns.ratings, 0, rows);
+        skip(buffer, rows * 8L);
+        for (int[] column : List.of(columns.releaseYears, columns.durations, columns.episodes, columns.genres)) {
+            buffer.asIntBuffer().get(column, 0, rows);
+            skip(buffer, rows * 4L);
+            align(buffer);
+        }
+        buffer.get(columns.contentTypes, 0, rows);
+        align(buffer);
+        for (int row = 0; row < rows; row++) {
+            byte code = columns.contentTypes[row];
+            columns.contentTypes[row] = code < 0 ? -1 : typeCodes[code];
+        }
+        readStringColumn(buffer, columns.titles, rows);
+        readStringColumn(buffer, columns.descriptions, rows);
+        columns.size = rows;
+        return new Contents(columns, changesCursor, exportStartedAt);
+    }
+
+    /**
+     * Escreve as linhas vivas de {@code columns}, que devem estar ordenadas por id.
+     */
+    static void write(ContentColumns columns, String changesCursor, long exportStartedAtMicros, OutputStream out)
+        throws IOException {
+        int[] live = new int[columns.liveCount()];
+        int rows = 0;
+        for (int row = 0; row < columns.size; row++) {
+            if (!columns.deleted[row]) {
+                live[rows++] = row;
+            }
+        }
+        List<String> typeNames = Arrays.stream(ContentType.values()).map(Enum::name).toList();
+
+        SectionWriter writer = new SectionWriter(Channels.newChannel(out));
+        writer.bytes(MAGIC);
+        writer.putInt(VERSION);
+        writer.putInt(rows);
+        writer.putInt(typeNames.size());
+        writer.putInt(columns.genreNames.size());
+        writer.putLong(exportStartedAtMicros);
+        writer.strings(Arrays.asList(changesCursor));
+        writer.strings(typeNames);
+        writer.strings(columns.genreNames);
+
+        for (int row : live) {
+            writer.putLong(columns.ids[row]);
+        }
+        for (int row : live) {
+            writer.putLong(columns.createdAt[row]);
+        }
+        for (int row : live) {
+            writer.putLong(columns.updatedAt[row]);
+        }
+        for (int row : live) {
+            writer.putDouble(columns.ratings[row]);
+        }
+        for (int[] column : List.of(columns.releaseYears, columns.durations, columns.episodes, columns.genres)) {
+            for (int row : live) {
+                writer.putInt(column[row]);
+            }
+            writer.align();
+        }
+        for (int row : live) {
+            writer.putByte(columns.contentTypes[row]);
+        }
+        writer.align();
+        writer.stringColumn(columns.titles, live);
+        writer.stringColumn(columns.descriptions, live);
+        writer.finish();
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) throws ContentSnapshotException {
+        int end = buffer.limit() - TRAILER_SIZE;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(0).limit(end));
+        long expected = buffer.getLong(end);
+        if (crc.getValue() != expected) {
+            throw new ContentSnapshotException("Snapshot checksum mismatch");
+        }
+    }
+
+    private static byte[] typeCodes(List<String> typeNames) throws ContentSnapshotException {
+        byte[] codes = new byte[typeNames.size()];
+        for (int code = 0; code < codes.length; code++) {
+            try {
+                codes[code] = (byte) ContentType.valueOf(typeNames.get(code)).ordinal();
+            } catch (IllegalArgumentException e) {
+                throw new ContentSnapshotException("Unknown content type in snapshot: " + typeNames.get(code));
+            }
+        }
+        return codes;
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer, int count) {
+        String[] strings = new String[count];
+        readStringColumn(buffer, strings, count);
+        return Arrays.asList(strings);
+    }
+
+    private static void readStringColumn(ByteBuffer buffer, String[] target, int rows) {
+        long[] nulls = new long[(rows + 63) / 64];
+        buffer.asLongBuffer().get(nulls);
+        skip(buffer, nulls.length * 8L);
+        long[] offsets = new long[rows + 1];
+        buffer.asLongBuffer().get(offsets);
+        skip(buffer, offsets.length * 8L);
+        // Uma cópia do heap inteiro em vez de um byte[] por string
+        byte[] heap = new byte[Math.toIntExact(offsets[rows])];
+        buffer.get(heap);
+        align(buffer);
+        for (int row = 0; row < rows; row++) {
+            if ((nulls[row >>> 6] & (1L << row)) == 0) {
+                int start = (int) offsets[row];
+                target[row] = new String(heap, start, (int) offsets[row + 1] - start, StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static void skip(ByteBuffer buffer, long bytes) {
+        buffer.position(Math.addExact(buffer.position(), Math.toIntExact(bytes)));
+    }
+
+    private static void align(ByteBuffer buffer) {
+        buffer.position((buffer.position() + 7) & ~7);
+    }
+
+    /**
+     * Escreve em blocos por um buffer fixo, acumulando o CRC32C de tudo o que passa.
+     */
+    private static final class SectionWriter {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long written;
+
+        private SectionWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void bytes(byte[] value) throws IOException {
+            int offset = 0;
+            while (offset < value.length) {
+                ensure(1);
+                int chunk = Math.min(buffer.remaining(), value.length - offset);
+                buffer.put(value, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        void strings(List<String> values) throws IOException {
+            int[] rows = new int[values.size()];
+            Arrays.setAll(rows, i -> i);
+            stringColumn(values.toArray(String[]::new), rows);
+        }
+
+        /**
+         * Bitmap de nulos e offsets antes do heap: os bytes são codificados uma vez e guardados
+         * até os offsets serem escritos.
+         */
+        void stringColumn(String[] values, int[] rows) throws IOException {
+            byte[][] encoded = new byte[rows.length][];
+            long[] nulls = new long[(rows.length + 63) / 64];
+            for (int i = 0; i < rows.length; i++) {
+                String value = values[rows[i]];
+                if (value == null) {
+                    nulls[i >>> 6] |= 1L << i;
+                } else {
+                    encoded[i] = value.getBytes(StandardCharsets.UTF_8);
+                }
+            }
+            for (long word : nulls) {
+                putLong(word);
+            }
+            long offset = 0;
+            putLong(offset);
+            for (byte[] bytes : encoded) {
+                offset += bytes == null ? 0 : bytes.length;
+                putLong(offset);
+            }
+            for (byte[] bytes : encoded) {
+                if (bytes != null) {
+                    bytes(bytes);
+                }
+            }
+            align();
+        }
+
+        void align() throws IOException {
+            long position = written + buffer.position();
+            int padding = (int) (-position & 7);
+            for (int i = 0; i < padding; i++) {
+                putByte((byte) 0);
+            }
+        }
+
+        void finish() throws IOException {
+            flush();
+            buffer.putLong(crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            written += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
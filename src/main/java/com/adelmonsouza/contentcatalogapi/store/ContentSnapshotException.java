@@ -0,0 +1,13 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import java.io.IOException;
+
+/**
+ * Snapshot binário ilegível: magic, versão ou checksum não conferem.
+ */
+class ContentSnapshotException extends IOException {
+
+    ContentSnapshotException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Gera um snapshot binário ({@link ContentSnapshot}) a partir de linhas em qualquer ordem.
+ *
+ * O formato é colunar, então as linhas ficam em memória (já em colunas) até o {@link #close()},
+ * que ordena por id, escreve o arquivo e fecha o stream. O cabeçalho leva a posição do change feed
+ * e o instante em que o writer foi aberto, antes da primeira linha lida: o {@code close} acontece
+ * depois de todas elas.
+ */
+public class ContentSnapshotWriter implements Closeable {
+
+    private final OutputStream out;
+    private final String changesCursor;
+    private final long startedAtMicros = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    private final ContentColumns columns = new ContentColumns(1024);
+
+    public ContentSnapshotWriter(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * @param changesCursor cursor do change feed tomado antes de começar a ler o catálogo
+     */
+    public ContentSnapshotWriter(OutputStream out, String changesCursor) {
+        this.out = out;
+        this.changesCursor = changesCursor;
+    }
+
+    public void write(ContentResponseDTO content) {
+        columns.append(content);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            ContentSnapshot.write(columns.sortedById(), changesCursor, startedAtMicros, out);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Leituras do catálogo usadas pela camada de serviço.
+ *
+ * A implementação padrão consulta o PostgreSQL ({@link JpaContentStore}); com
+ * {@code catalog.store.type=memory} as leituras saem de colunas em memória
+ * ({@link MemoryContentStore}). Escritas continuam passando pelo ContentRepository.
+ */
+public interface ContentStore {
+
+    Page<ContentResponseDTO> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable);
+
+    Optional<ContentResponseDTO> findResponseById(Long id, Set<ContentField> fields);
+
+    /**
+     * A ordem do resultado não é garantida; ids inexistentes ficam de fora.
+     */
+    List<ContentResponseDTO> findResponsesByIds(Collection<Long> ids, Set<ContentField> fields);
+
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    Slice<Content> findSlice(SearchRequestDTO filter, KeysetPosition position, int size);
+
+    /**
+     * Contagem por valor do campo com os filtros da busca; valores nulos ficam de fora.
+     */
+    Map<Object, Long> countGroupedBy(SearchRequestDTO filter, ContentField field);
+
+    // Consultas derivadas do ContentRepository, expressas como filtros da busca
+
+    default Page<ContentResponseDTO> findByContentType(ContentType contentType, Pageable pageable) {
+        return findPage(SearchRequestDTO.builder().contentType(contentType).build(), ContentField.ALL, pageable);
+    }
+
+    default Page<ContentResponseDTO> findByGenre(String genre, Pageable pageable) {
+        return findPage(SearchRequestDTO.builder().genre(genre).build(), ContentField.ALL, pageable);
+    }
+
+    default Page<ContentResponseDTO> findByReleaseYearBetween(Integer minYear, Integer maxYear, Pageable pageable) {
+        return findPage(SearchRequestDTO.builder().minYear(minYear).maxYear(maxYear).build(), ContentField.ALL, pageable);
+    }
+
+    default Page<ContentResponseDTO> findByRatingGreaterThanEqual(Double minRating, Pageable pageable) {
+        return findPage(SearchRequestDTO.builder().minRating(minRating).build(), ContentField.ALL, pageable);
+    }
+
+    default Page<ContentResponseDTO> searchContent(SearchRequestDTO filter, Pageable pageable) {
+        return findPage(filter, ContentField.ALL, pageable);
+    }
+}
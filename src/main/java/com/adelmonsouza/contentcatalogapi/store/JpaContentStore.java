@@ -0,0 +1,64 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ContentStore padrão: consultas projetadas do ContentRepository no PostgreSQL.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JpaContentStore implements ContentStore {
+
+    private final ContentRepository contentRepository;
+
+    @Override
+    public Page<ContentResponseDTO> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable) {
+        return contentRepository.findPage(filter, fields, pageable);
+    }
+
+    @Override
+    public Optional<ContentResponseDTO> findResponseById(Long id, Set<ContentField> fields) {
+        return contentRepository.findResponseById(id, fields);
+    }
+
+    @Override
+    public List<ContentResponseDTO> findResponsesByIds(Collection<Long> ids, Set<ContentField> fields) {
+        return contentRepository.findResponsesByIds(ids, fields);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return contentRepository.findUpdatedAtById(id);
+    }
+
+    @Override
+    public Slice<Content> findSlice(SearchRequestDTO filter, KeysetPosition position, int size) {
+        return contentRepository.findSlice(filter, position, size);
+    }
+
+    @Override
+    public Map<Object, Long> countGroupedBy(SearchRequestDTO filter, ContentField field) {
+        return contentRepository.countGroupedBy(filter, field);
+    }
+}
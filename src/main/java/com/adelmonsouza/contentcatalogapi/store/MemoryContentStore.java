@@ -0,0 +1,522 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.changefeed.ContentChangeFeed;
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.exception.ChangeFeedExpiredException;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * ContentStore residente em memória, para nós de borda que servem um snapshot do catálogo
+ * sem ir ao PostgreSQL a cada requisição (profile {@code edge}).
+ *
+ * Carrega na inicialização um snapshot binário ({@link ContentSnapshot}, mapeado do disco),
+ * um NDJSON (o formato de /api/content/export, opcionalmente .gz) ou, sem snapshot, lê o banco
+ * uma vez. Depois segue o change feed a partir da posição do snapshot (a do cabeçalho do binário,
+ * senão {@code changes-since}; sem snapshot, a tomada antes de ler o banco), recebendo também as
+ * escritas de outros nós.
+ * As escritas feitas por este nó ainda são aplicadas logo após o commit, sem esperar o feed.
+ *
+ * As consultas varrem as colunas de {@link ContentColumns}; como tudo já está em memória,
+ * {@code fields} não muda o custo e as respostas vêm completas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.store.type", havingValue = "memory")
+public class MemoryContentStore implements ContentStore {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int FOLLOW_BATCH_SIZE = 1000;
+    private static final int MIN_DELETED_TO_COMPACT = 1000;
+
+    private final ContentRepository contentRepository;
+    private final ContentChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+    private final String snapshotLocation;
+    private final String snapshotPosition;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ContentColumns columns = new ContentColumns(0);
+    // Cursor do change feed até onde as colunas estão aplicadas; nulo até a carga terminar
+    private volatile String changesCursor;
+
+    public MemoryContentStore(
+        ContentRepository contentRepository,
+        ContentChangeFeed changeFeed,
+        ObjectMapper objectMapper,
+        ResourceLoader resourceLoader,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.store.memory.snapshot:}") String snapshotLocation,
+        @Value("${catalog.store.memory.changes-since:}") String snapshotPosition
+    ) {
+        this.contentRepository = contentRepository;
+        this.changeFeed = changeFeed;
+        this.objectMapper = objectMapper;
+        this.resourceLoader = resourceLoader;
+        this.snapshotLocation = snapshotLocation;
+        this.snapshotPosition = snapshotPosition;
+        Gauge.builder("catalog.store.memory.rows", this, store -> store.read(ContentColumns::liveCount))
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        if (snapshotLocation.isBlank()) {
+            reloadFromDatabase();
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(snapshotLocation);
+        ContentColumns loaded;
+        String position = snapshotPosition;
+        if (ContentSnapshot.isSnapshot(resource)) {
+            try {
+                ContentSnapshot.Contents snapshot = ContentSnapshot.read(resource);
+                loaded = snapshot.columns();
+                if (snapshot.changesCursor() != null) {
+                    position = snapshot.changesCursor();
+                }
+            } catch (ContentSnapshotException e) {
+                // Snapshot de outra versão ou corrompido: o nó sobe mais devagar, mas sobe
+                log.warn("Ignoring snapshot {}: {}; loading from database", snapshotLocation, e.getMessage());
+                reloadFromDatabase();
+                return;
+            }
+        } else {
+            loaded = loadFromNdjson(resource);
+        }
+        if (position.isBlank()) {
+            // Sem a posição do export, o que mudou entre o export e agora fica de fora até a próxima escrita
+            log.warn("No change feed position for snapshot {}; following changes from now", snapshotLocation);
+            position = changeFeed.head().nextCursor();
+        }
+        replace(loaded, position, snapshotLocation, started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        write(current -> {
+            if (event.current() != null) {
+                current.upsert(event.current());
+            } else {
+                current.remove(event.contentId());
+            }
+            return compactIfNeeded(current);
+        });
+    }
+
+    /**
+     * Aplica o change feed a partir do cursor salvo. Cada item traz o estado atual do conteúdo,
+     * então reaplicar o que a escrita local já aplicou não muda nada. Um cursor além da retenção
+     * do feed recarrega tudo do banco.
+     */
+    @Scheduled(initialDelayString = "${catalog.store.memory.follow-interval:PT1S}",
+               fixedDelayString = "${catalog.store.memory.follow-interval:PT1S}")
+    public void followChanges() {
+        String position = changesCursor;
+        if (position == null) {
+            return;
+        }
+        try {
+            CursorPageDTO<ContentChangeDTO> page;
+            do {
+                page = changeFeed.read(position, FOLLOW_BATCH_SIZE);
+                List<ContentChangeDTO> changes = page.content();
+                if (!changes.isEmpty()) {
+                    write(current -> {
+                        changes.forEach(change -> apply(current, change));
+                        return compactIfNeeded(current);
+                    });
+                }
+                position = page.nextCursor();
+                changesCursor = position;
+            } while (page.hasNext());
+        } catch (ChangeFeedExpiredException e) {
+            log.warn("Memory content store fell behind the change feed retention; reloading from database");
+            reloadFromDatabase();
+        }
+    }
+
+    @Override
+    public Page<ContentResponseDTO> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable) {
+        return read(c -> {
+            IntPredicate matches = matcher(c, filter);
+            Comparator<Integer> order = pageOrder(c, pageable.getSort());
+            int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+            int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+            List<Integer> rows = new ArrayList<>();
+            long total = 0;
+            if (order == null) {
+                // Ordem por id é a ordem física: a página sai direto da varredura
+                for (int row = 0; row < c.size; row++) {
+                    if (matches.test(row)) {
+                        if (total >= offset && rows.size() < limit) {
+                            rows.add(row);
+                        }
+                        total++;
+                    }
+                }
+            } else {
+                TopRows top = new TopRows(order, (long) offset + limit);
+                for (int row = 0; row < c.size; row++) {
+                    if (matches.test(row)) {
+                        top.offer(row);
+                        total++;
+                    }
+                }
+                List<Integer> sorted = top.sorted();
+                rows = sorted.subList(Math.min(offset, sorted.size()), sorted.size());
+            }
+            return new PageImpl<>(rows.stream().map(c::toResponse).toList(), pageable, total);
+        });
+    }
+
+    @Override
+    public Optional<ContentResponseDTO> findResponseById(Long id, Set<ContentField> fields) {
+        return read(c -> {
+            int row = c.findLive(id);
+            return row < 0 ? Optional.empty() : Optional.of(c.toResponse(row));
+        });
+    }
+
+    @Override
+    public List<ContentResponseDTO> findResponsesByIds(Collection<Long> ids, Set<ContentField> fields) {
+        return read(c -> {
+            List<ContentResponseDTO> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                int row = c.findLive(id);
+                if (row >= 0) {
+                    found.add(c.toResponse(row));
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return read(c -> {
+            int row = c.findLive(id);
+            return row < 0 ? Optional.empty() : Optional.ofNullable(c.updatedAt(row));
+        });
+    }
+
+    /**
+     * Mesma semântica do keyset do JPA: chave na direção pedida com nulos por último, desempate pelo id.
+     */
+    @Override
+    public Slice<Content> findSlice(SearchRequestDTO filter, KeysetPosition position, int size) {
+        ContentField field = ContentField.fromProperty(position.sort().property()).orElseThrow();
+        boolean ascending = position.direction().isAscending();
+        return read(c -> {
+            IntPredicate matches = matcher(c, filter);
+            Comparator<Integer> order = fieldOrder(c, field, ascending, false)
+                .thenComparing(ascending ? Comparator.<Integer>naturalOrder() : Comparator.<Integer>reverseOrder());
+
+            TopRows top = new TopRows(order, size + 1L);
+            for (int row = 0; row < c.size; row++) {
+                if (matches.test(row) && (position.isFirst() || isAfter(c, row, field, position))) {
+                    top.offer(row);
+                }
+            }
+            List<Integer> rows = top.sorted();
+            boolean hasNext = rows.size() > size;
+            List<Content> content = (hasNext ? rows.subList(0, size) : rows).stream().map(c::toEntity).toList();
+            return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+        });
+    }
+
+    @Override
+    public Map<Object, Long> countGroupedBy(SearchRequestDTO filter, ContentField field) {
+        return read(c -> {
+            IntPredicate matches = matcher(c, filter);
+            Map<Object, Long> counts = new HashMap<>();
+            for (int row = 0; row < c.size; row++) {
+                if (matches.test(row)) {
+                    Object value = c.value(row, field);
+                    if (value != null) {
+                        counts.merge(value, 1L, Long::sum);
+                    }
+                }
+            }
+            return counts;
+        });
+    }
+
+    private <T> T read(Function<ContentColumns, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(columns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(UnaryOperator<ContentColumns> update) {
+        lock.writeLock().lock();
+        try {
+            columns = update.apply(columns);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reloadFromDatabase() {
+        long started = System.currentTimeMillis();
+        // Posição tomada antes da leitura: o que for confirmado durante a carga chega pelo feed
+        String position = changeFeed.head().nextCursor();
+        replace(loadFromDatabase(), position, "database", started);
+    }
+
+    private void replace(ContentColumns loaded, String position, String source, long started) {
+        ContentColumns sorted = loaded.sortedById();
+        write(current -> sorted);
+        changesCursor = position;
+        log.info("Memory content store loaded {} rows from {} in {} ms", sorted.liveCount(),
+            source, System.currentTimeMillis() - started);
+    }
+
+    private static void apply(ContentColumns current, ContentChangeDTO change) {
+        ContentResponseDTO content = change.content();
+        if (content == null) {
+            current.remove(change.contentId());
+            return;
+        }
+        // O feed leu a linha antes de um commit que este nó já aplicou: mantém a versão mais nova
+        int row = current.findLive(content.id());
+        LocalDateTime applied = row < 0 ? null : current.updatedAt(row);
+        if (applied != null && content.updatedAt() != null && applied.isAfter(content.updatedAt())) {
+            return;
+        }
+        current.upsert(content);
+    }
+
+    private static ContentColumns compactIfNeeded(ContentColumns current) {
+        boolean compact = current.deletedCount >= MIN_DELETED_TO_COMPACT && current.deletedCount * 4 > current.size;
+        return compact ? current.compact() : current;
+    }
+
+    private ContentColumns loadFromDatabase() {
+        ContentColumns target = new ContentColumns(LOAD_BATCH_SIZE);
+        long lastId = 0;
+        Slice<Content> batch;
+        do {
+            batch = contentRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Content content : batch) {
+                target.append(ContentMapper.toResponseDTO(content));
+                lastId = content.getId();
+            }
+        } while (batch.hasNext());
+        return target;
+    }
+
+    private ContentColumns loadFromNdjson(Resource resource) throws IOException {
+        ContentColumns target = new ContentColumns(LOAD_BATCH_SIZE);
+        try (InputStream raw = resource.getInputStream();
+             InputStream in = snapshotLocation.endsWith(".gz") ? new GZIPInputStream(raw) : raw;
+             MappingIterator<ContentResponseDTO> rows = objectMapper.readerFor(ContentResponseDTO.class).readValues(in)) {
+            while (rows.hasNext()) {
+                target.append(rows.next());
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Mesmos filtros do JPA: título e descrição por substring sem diferenciar maiúsculas, demais por
+     * igualdade ou faixa. Nulos nunca passam num filtro de faixa (NaN e NULL_INT falham nas comparações).
+     */
+    private static IntPredicate matcher(ContentColumns c, SearchRequestDTO filter) {
+        IntPredicate matches = row -> !c.deleted[row];
+        if (filter == null) {
+            return matches;
+        }
+        if (filter.title() != null) {
+            String title = filter.title();
+            matches = matches.and(row -> containsIgnoreCase(c.titles[row], title));
+        }
+        if (filter.description() != null) {
+            String description = filter.description();
+            matches = matches.and(row -> containsIgnoreCase(c.descriptions[row], description));
+        }
+        if (filter.contentType() != null) {
+            byte type = (byte) filter.contentType().ordinal();
+            matches = matches.and(row -> c.contentTypes[row] == type);
+        }
+        if (filter.genre() != null) {
+            int genre = c.genreCode(filter.genre());
+            if (genre < 0) {
+                return row -> false;
+            }
+            matches = matches.and(row -> c.genres[row] == genre);
+        }
+        if (filter.minYear() != null) {
+            int minYear = filter.minYear();
+            matches = matches.and(row -> c.releaseYears[row] != ContentColumns.NULL_INT && c.releaseYears[row] >= minYear);
+        }
+        if (filter.maxYear() != null) {
+            int maxYear = filter.maxYear();
+            matches = matches.and(row -> c.releaseYears[row] != ContentColumns.NULL_INT && c.releaseYears[row] <= maxYear);
+        }
+        if (filter.minRating() != null) {
+            double minRating = filter.minRating();
+            matches = matches.and(row -> c.ratings[row] >= minRating);
+        }
+        return matches;
+    }
+
+    private static boolean containsIgnoreCase(String value, String part) {
+        if (value == null) {
+            return false;
+        }
+        for (int start = 0; start <= value.length() - part.length(); start++) {
+            if (value.regionMatches(true, start, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ordenação da página como no PostgreSQL (ASC com nulos por último, DESC com nulos primeiro),
+     * desempatando pelo id. Nulo quando a ordem já é a física (sem sort ou id ASC).
+     */
+    private static Comparator<Integer> pageOrder(ContentColumns c, Sort sort) {
+        if (sort.isUnsorted()) {
+            return null;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && orders.get(0).getProperty().equals("id") && orders.get(0).isAscending()) {
+            return null;
+        }
+        Comparator<Integer> order = null;
+        for (Sort.Order sortOrder : orders) {
+            ContentField field = ContentField.fromProperty(sortOrder.getProperty())
+                .orElseThrow(() -> new InvalidRequestException("Unknown sort property: " + sortOrder.getProperty()));
+            Comparator<Integer> next = fieldOrder(c, field, sortOrder.isAscending(), !sortOrder.isAscending());
+            order = order == null ? next : order.thenComparing(next);
+        }
+        return order.thenComparing(Comparator.naturalOrder());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Integer> fieldOrder(ContentColumns c, ContentField field, boolean ascending, boolean nullsFirst) {
+        Comparator<Integer> values = switch (field) {
+            case ID -> Comparator.naturalOrder();
+            case RATING -> (a, b) -> Double.compare(c.ratings[a], c.ratings[b]);
+            case RELEASE_YEAR -> (a, b) -> Integer.compare(c.releaseYears[a], c.releaseYears[b]);
+            case UPDATED_AT -> (a, b) -> Long.compare(c.updatedAt[a], c.updatedAt[b]);
+            case CREATED_AT -> (a, b) -> Long.compare(c.createdAt[a], c.createdAt[b]);
+            // O enum é gravado como texto, então o banco ordena pelo nome
+            case CONTENT_TYPE -> Comparator.comparing(row -> c.contentType(row).name());
+            default -> Comparator.comparing(row -> (Comparable) c.value(row, field));
+        };
+        Comparator<Integer> directed = ascending ? values : values.reversed();
+        return (a, b) -> {
+            boolean aNull = c.isNull(a, field);
+            boolean bNull = c.isNull(b, field);
+            if (aNull || bNull) {
+                return aNull == bNull ? 0 : (aNull == nullsFirst ? -1 : 1);
+            }
+            return directed.compare(a, b);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean isAfter(ContentColumns c, int row, ContentField field, KeysetPosition position) {
+        boolean ascending = position.direction().isAscending();
+        Comparable value = (Comparable) c.value(row, field);
+        Comparable last = position.lastValue();
+        int compared;
+        if (value == null || last == null) {
+            compared = value == last ? 0 : (value == null ? 1 : -1);
+        } else {
+            compared = ascending ? value.compareTo(last) : last.compareTo(value);
+        }
+        if (compared == 0) {
+            long id = c.ids[row];
+            compared = ascending ? Long.compare(id, position.lastId()) : Long.compare(position.lastId(), id);
+        }
+        return compared > 0;
+    }
+
+    /**
+     * As {@code limit} primeiras linhas segundo {@code order}, num heap limitado (O(n log k)).
+     */
+    private static final class TopRows {
+
+        private final Comparator<Integer> order;
+        private final long limit;
+        private final PriorityQueue<Integer> heap;
+
+        private TopRows(Comparator<Integer> order, long limit) {
+            this.order = order;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(order.reversed());
+        }
+
+        void offer(int row) {
+            if (heap.size() < limit) {
+                heap.offer(row);
+            } else if (order.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(row);
+            }
+        }
+
+        List<Integer> sorted() {
+            List<Integer> rows = new ArrayList<>(heap);
+            rows.sort(order);
+            return rows;
+        }
+    }
+}
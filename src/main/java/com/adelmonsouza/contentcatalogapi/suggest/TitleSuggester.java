@@ -0,0 +1,315 @@
+package com.adelmonsouza.contentcatalogapi.suggest;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SuggestionDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetSort;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Autocomplete de títulos para GET /api/content/suggest.
+ *
+ * Os títulos são normalizados (minúsculas, sem acentos e pontuação) e indexados num
+ * {@link TitleTrie} por início de palavra: "matr" sugere "The Matrix". Quando o prefixo exato
+ * não preenche o limit, uma palavra desconhecida da busca é corrigida pelos trigramas do
+ * {@link TitleVocabulary} (até 1 edição de 4 a 7 caracteres, 2 a partir de 8) e as sugestões
+ * corrigidas vêm depois, marcadas como fuzzy. Escritas atualizam o índice após o commit;
+ * desabilitado ou carregando, a sugestão cai para a busca por título no ContentStore.
+ */
+@Slf4j
+@Component
+public class TitleSuggester {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<ContentField> FIELDS = EnumSet.of(
+        ContentField.ID, ContentField.TITLE, ContentField.CONTENT_TYPE, ContentField.RELEASE_YEAR, ContentField.RATING);
+    private static final Sort ORDER = Sort.by(Sort.Order.desc("rating"), Sort.Order.asc("id"));
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final int BURST_SIZE = 32;
+    private static final int MAX_CORRECTIONS = 3;
+
+    // Estimativa de memória (JVM 64 bits com compressed oops), exposta em catalog.suggest.memory
+    private static final int NODE_BYTES = 160;
+    private static final int POSTING_BYTES = 32;
+    private static final int ENTRY_BYTES = 200;
+    private static final int WORD_BYTES = 120;
+    private static final int TRIGRAM_POSTING_BYTES = 48;
+
+    private final ContentStore contentStore;
+    private final boolean enabled;
+    private final int maxLimit;
+    private final int maxWords;
+    private final Timer timer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TitleTrie trie;
+    private final TitleVocabulary vocabulary = new TitleVocabulary();
+    private final Map<Long, TitleTrie.Entry> entries = new HashMap<>();
+    private long titleChars;
+
+    private final Set<Long> deletedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public TitleSuggester(
+        ContentStore contentStore,
+        MeterRegistry meterRegistry,
+        @Value("${catalog.suggest.enabled:true}") boolean enabled,
+        @Value("${catalog.suggest.max-limit:20}") int maxLimit,
+        @Value("${catalog.suggest.max-depth:16}") int maxDepth,
+        @Value("${catalog.suggest.max-words-per-title:8}") int maxWords
+    ) {
+        this.contentStore = contentStore;
+        this.enabled = enabled;
+        this.maxLimit = maxLimit;
+        this.maxWords = maxWords;
+        this.trie = new TitleTrie(maxLimit, BURST_SIZE, maxDepth);
+        this.timer = meterRegistry.timer("catalog.suggest");
+        Gauge.builder("catalog.suggest.titles", () -> read(entries::size)).register(meterRegistry);
+        Gauge.builder("catalog.suggest.trie.nodes", () -> read(trie::nodeCount)).register(meterRegistry);
+        Gauge.builder("catalog.suggest.vocabulary", () -> read(vocabulary::size)).register(meterRegistry);
+        Gauge.builder("catalog.suggest.memory", () -> read(this::estimatedBytes)).baseUnit("bytes").register(meterRegistry);
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (!enabled || !ready) {
+            return query(query, size);
+        }
+        return timer.record(() -> read(() -> lookup(normalized, size)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        KeysetPosition position = KeysetPosition.first(KeysetSort.ID, Sort.Direction.ASC);
+        int loaded = 0;
+        Slice<Content> batch;
+        do {
+            KeysetPosition after = position;
+            batch = PrimaryReads.call(() -> contentStore.findSlice(null, after, LOAD_BATCH_SIZE));
+            for (Content content : batch) {
+                index(ContentMapper.toResponseDTO(content));
+                position = new KeysetPosition(KeysetSort.ID, Sort.Direction.ASC, content.getId(), content.getId());
+                loaded++;
+            }
+        } while (batch.hasNext());
+
+        lock.writeLock().lock();
+        try {
+            deletedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Title suggester loaded {} titles in {} ms ({} trie nodes, ~{} KB)",
+            loaded, System.currentTimeMillis() - started, read(trie::nodeCount), read(this::estimatedBytes) / 1024);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.type() == ContentChangedEvent.ChangeType.DELETED) {
+            remove(event.contentId());
+        } else {
+            index(event.current());
+        }
+    }
+
+    public void index(ContentResponseDTO content) {
+        String key = normalize(content.title());
+        lock.writeLock().lock();
+        try {
+            if (!ready && deletedWhileLoading.contains(content.id())) {
+                return;
+            }
+            TitleTrie.Entry existing = entries.get(content.id());
+            if (existing != null) {
+                // Eventos e carga inicial podem chegar fora de ordem: mantém a versão mais nova
+                if (existing.updatedAt() != null && content.updatedAt() != null
+                    && existing.updatedAt().isAfter(content.updatedAt())) {
+                    return;
+                }
+                unlink(existing);
+            }
+            if (key.isEmpty()) {
+                return;
+            }
+            TitleTrie.Entry entry = new TitleTrie.Entry(content.id(), content.title(), key,
+                content.contentType(), content.releaseYear(), content.rating(), content.updatedAt());
+            entries.put(entry.id(), entry);
+            trie.insert(entry, wordOffsets(key));
+            words(key).forEach(vocabulary::add);
+            titleChars += entry.title().length() + key.length();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                deletedWhileLoading.add(id);
+            }
+            TitleTrie.Entry existing = entries.get(id);
+            if (existing != null) {
+                unlink(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<SuggestionDTO> lookup(String normalized, int size) {
+        List<SuggestionDTO> suggestions = new ArrayList<>(size);
+        Set<Long> seen = new HashSet<>();
+        collect(trie.find(normalized, size), false, size, suggestions, seen);
+        if (suggestions.size() < size) {
+            for (String corrected : corrections(normalized)) {
+                collect(trie.find(corrected, size), true, size, suggestions, seen);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Buscas com a primeira palavra desconhecida corrigida, da correção mais próxima para a mais
+     * distante. A última palavra é tratada como prefixo, as demais como palavras completas.
+     */
+    private List<String> corrections(String normalized) {
+        String[] tokens = normalized.split(" ");
+        int last = tokens.length - 1;
+        for (int i = 0; i < tokens.length; i++) {
+            boolean partial = i == last;
+            if (partial ? vocabulary.hasPrefix(tokens[i]) : vocabulary.contains(tokens[i])) {
+                continue;
+            }
+            int maxEdits = tokens[i].length() < 4 ? 0 : tokens[i].length() < 8 ? 1 : 2;
+            if (maxEdits == 0) {
+                return List.of();
+            }
+            List<String> queries = new ArrayList<>(MAX_CORRECTIONS);
+            for (TitleVocabulary.Correction correction : vocabulary.corrections(tokens[i], partial, maxEdits, MAX_CORRECTIONS)) {
+                String[] corrected = tokens.clone();
+                corrected[i] = correction.token();
+                queries.add(String.join(" ", corrected));
+            }
+            return queries;
+        }
+        return List.of();
+    }
+
+    private static void collect(List<TitleTrie.Entry> found, boolean fuzzy, int size,
+                                List<SuggestionDTO> suggestions, Set<Long> seen) {
+        for (TitleTrie.Entry entry : found) {
+            if (suggestions.size() == size) {
+                return;
+            }
+            if (seen.add(entry.id())) {
+                suggestions.add(new SuggestionDTO(entry.id(), entry.title(), entry.contentType(),
+                    entry.releaseYear(), entry.rating(), fuzzy));
+            }
+        }
+    }
+
+    private List<SuggestionDTO> query(String title, int size) {
+        SearchRequestDTO filter = SearchRequestDTO.builder().title(title).build();
+        return contentStore.findPage(filter, FIELDS, PageRequest.of(0, size, ORDER)).getContent().stream()
+            .map(content -> new SuggestionDTO(content.id(), content.title(), content.contentType(),
+                content.releaseYear(), content.rating(), false))
+            .toList();
+    }
+
+    private void unlink(TitleTrie.Entry entry) {
+        entries.remove(entry.id());
+        trie.remove(entry, wordOffsets(entry.key()));
+        words(entry.key()).forEach(vocabulary::remove);
+        titleChars -= entry.title().length() + entry.key().length();
+    }
+
+    private int[] wordOffsets(String key) {
+        int[] offsets = new int[maxWords];
+        int count = 0;
+        for (int i = 0; i < key.length() && count < maxWords; i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                offsets[count++] = i;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    private Set<String> words(String key) {
+        String[] words = key.split(" ");
+        return new LinkedHashSet<>(Arrays.asList(words).subList(0, Math.min(maxWords, words.length)));
+    }
+
+    private long estimatedBytes() {
+        return (long) trie.nodeCount() * NODE_BYTES
+            + (long) trie.postingCount() * POSTING_BYTES
+            + (long) entries.size() * ENTRY_BYTES
+            + titleChars
+            + (long) vocabulary.size() * WORD_BYTES
+            + vocabulary.trigramPostings() * TRIGRAM_POSTING_BYTES;
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATOR.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,301 @@
+package com.adelmonsouza.contentcatalogapi.suggest;
+
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Burst trie de títulos normalizados com os {@code k} melhores de cada nó pré-calculados.
+ *
+ * Cada título entra uma vez por início de palavra ("the matrix" e "matrix"), então o prefixo casa
+ * com qualquer palavra do título. Folhas guardam as chaves numa lista e só viram nós internos
+ * quando passam de {@code burstSize}, até {@code maxDepth} caracteres: o número de nós cresce com
+ * o número de chaves, não com o total de caracteres. Não é thread-safe; o chamador sincroniza.
+ */
+final class TitleTrie {
+
+    record Entry(
+        long id,
+        String title,
+        String key,
+        ContentType contentType,
+        Integer releaseYear,
+        Double rating,
+        LocalDateTime updatedAt
+    ) {}
+
+    /**
+     * Ordem das sugestões: maior rating primeiro (sem rating por último), desempate pelo id.
+     */
+    static final Comparator<Entry> RANK = Comparator
+        .comparing(Entry::rating, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparingLong(Entry::id);
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int k;
+    private final int burstSize;
+    private final int maxDepth;
+    private final Node root = new Node(0);
+    private int nodes = 1;
+    private int postings;
+
+    TitleTrie(int k, int burstSize, int maxDepth) {
+        this.k = k;
+        this.burstSize = burstSize;
+        this.maxDepth = maxDepth;
+    }
+
+    void insert(Entry entry, int[] offsets) {
+        for (int offset : offsets) {
+            insert(new Posting(entry, offset));
+        }
+    }
+
+    void remove(Entry entry, int[] offsets) {
+        for (int offset : offsets) {
+            remove(entry, offset);
+        }
+    }
+
+    /**
+     * Até {@code limit} (no máximo {@code k}) títulos com alguma palavra começando por {@code prefix},
+     * na ordem de {@link #RANK}.
+     */
+    List<Entry> find(String prefix, int limit) {
+        Node node = root;
+        while (node.depth < prefix.length()) {
+            if (node.leaf) {
+                return scan(node, prefix, limit);
+            }
+            node = node.child(prefix.charAt(node.depth));
+            if (node == null) {
+                return List.of();
+            }
+        }
+        return List.of(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    int nodeCount() {
+        return nodes;
+    }
+
+    int postingCount() {
+        return postings;
+    }
+
+    private void insert(Posting posting) {
+        postings++;
+        Node node = root;
+        while (!node.leaf) {
+            offer(node, posting.entry());
+            if (posting.length() == node.depth) {
+                node.postings.add(posting);
+                return;
+            }
+            node = childFor(node, posting.charAt(node.depth));
+        }
+        node.postings.add(posting);
+        offer(node, posting.entry());
+        if (node.postings.size() > burstSize && node.depth < maxDepth) {
+            burst(node);
+        }
+    }
+
+    private void remove(Entry entry, int offset) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int length = entry.key().length() - offset;
+        while (true) {
+            path.add(node);
+            if (node.leaf || length == node.depth) {
+                break;
+            }
+            node = node.child(entry.key().charAt(offset + node.depth));
+            if (node == null) {
+                return;
+            }
+        }
+        if (!node.postings.removeIf(posting -> posting.entry() == entry && posting.offset() == offset)) {
+            return;
+        }
+        postings--;
+
+        // O top de um nó só pode conter quem está no top de algum filho: para de subir quando o
+        // título não aparece mais
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.isEmpty()) {
+                path.get(i - 1).removeChild(entry.key().charAt(offset + current.depth - 1));
+                nodes--;
+                continue;
+            }
+            if (!current.contains(entry.id())) {
+                break;
+            }
+            recompute(current);
+        }
+    }
+
+    private void burst(Node node) {
+        List<Posting> keys = node.postings;
+        node.leaf = false;
+        node.postings = new ArrayList<>(2);
+        for (Posting posting : keys) {
+            if (posting.length() == node.depth) {
+                node.postings.add(posting);
+            } else {
+                Node child = childFor(node, posting.charAt(node.depth));
+                child.postings.add(posting);
+                offer(child, posting.entry());
+            }
+        }
+        for (Node child : node.children) {
+            if (child.postings.size() > burstSize && child.depth < maxDepth) {
+                burst(child);
+            }
+        }
+    }
+
+    private Node childFor(Node node, char label) {
+        Node child = node.child(label);
+        if (child == null) {
+            child = node.addChild(label);
+            nodes++;
+        }
+        return child;
+    }
+
+    private void offer(Node node, Entry entry) {
+        Entry[] top = node.top;
+        if (node.contains(entry.id())
+            || (top.length == k && RANK.compare(entry, top[top.length - 1]) >= 0)) {
+            return;
+        }
+        int position = -Arrays.binarySearch(top, entry, RANK) - 1;
+        Entry[] updated = new Entry[Math.min(top.length + 1, k)];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(top, position, updated, position + 1, updated.length - position - 1);
+        node.top = updated;
+    }
+
+    private void recompute(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        node.postings.forEach(posting -> candidates.add(posting.entry()));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        node.top = best(candidates, k);
+    }
+
+    private List<Entry> scan(Node leaf, String prefix, int limit) {
+        List<Entry> matches = new ArrayList<>();
+        for (Posting posting : leaf.postings) {
+            if (posting.length() >= prefix.length() && posting.entry().key().startsWith(prefix, posting.offset())) {
+                matches.add(posting.entry());
+            }
+        }
+        return List.of(best(matches, Math.min(limit, k)));
+    }
+
+    private static Entry[] best(List<Entry> candidates, int limit) {
+        candidates.sort(RANK);
+        List<Entry> best = new ArrayList<>(Math.min(limit, candidates.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : candidates) {
+            if (best.size() == limit) {
+                break;
+            }
+            if (seen.add(entry.id())) {
+                best.add(entry);
+            }
+        }
+        return best.isEmpty() ? NO_ENTRIES : best.toArray(Entry[]::new);
+    }
+
+    /**
+     * Uma chave: o título a partir de uma palavra.
+     */
+    private record Posting(Entry entry, int offset) {
+
+        int length() {
+            return entry.key().length() - offset;
+        }
+
+        char charAt(int depth) {
+            return entry.key().charAt(offset + depth);
+        }
+    }
+
+    private static final class Node {
+
+        private final int depth;
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        // Folha: todas as chaves abaixo deste prefixo; nó interno: só as que terminam aqui
+        private List<Posting> postings = new ArrayList<>(2);
+        private boolean leaf = true;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char label) {
+            int position = -Arrays.binarySearch(labels, label) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newLabels[position] = label;
+            newChildren[position] = new Node(depth + 1);
+            System.arraycopy(labels, position, newLabels, position + 1, labels.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[position];
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean contains(long id) {
+            for (Entry entry : top) {
+                if (entry.id() == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return postings.isEmpty() && children.length == 0;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.adelmonsouza.contentcatalogapi.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Palavras dos títulos com contagem de uso e índice de trigramas para corrigir erros de digitação.
+ *
+ * Os trigramas levam dois caracteres de preenchimento só no início ("^^m", "^ma", "mat"), então o
+ * começo de uma palavra compartilha trigramas com a palavra inteira: serve tanto para palavras
+ * completas quanto para o prefixo que ainda está sendo digitado. Não é thread-safe.
+ */
+final class TitleVocabulary {
+
+    private static final int MAX_CANDIDATES = 50;
+
+    private final TreeMap<String, Integer> words = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private long trigramPostings;
+
+    record Correction(String token, int distance) {}
+
+    void add(String word) {
+        if (words.merge(word, 1, Integer::sum) == 1) {
+            for (String trigram : trigrams(word)) {
+                if (wordsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(word)) {
+                    trigramPostings++;
+                }
+            }
+        }
+    }
+
+    void remove(String word) {
+        Integer count = words.get(word);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            words.put(word, count - 1);
+            return;
+        }
+        words.remove(word);
+        for (String trigram : trigrams(word)) {
+            Set<String> postings = wordsByTrigram.get(trigram);
+            if (postings != null && postings.remove(word)) {
+                trigramPostings--;
+                if (postings.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    boolean contains(String word) {
+        return words.containsKey(word);
+    }
+
+    boolean hasPrefix(String prefix) {
+        String next = words.ceilingKey(prefix);
+        return next != null && next.startsWith(prefix);
+    }
+
+    int size() {
+        return words.size();
+    }
+
+    long trigramPostings() {
+        return trigramPostings;
+    }
+
+    /**
+     * Palavras (ou começos de palavra, quando {@code partial}) a até {@code maxEdits} edições de
+     * {@code token}, da menor distância para a maior e, empatadas, das mais usadas nos títulos.
+     */
+    List<Correction> corrections(String token, boolean partial, int maxEdits, int limit) {
+        Set<String> grams = trigrams(token);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : grams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                shared.merge(word, 1, Integer::sum);
+            }
+        }
+        // Cada edição altera no máximo quatro trigramas (três, fora a transposição)
+        int minShared = Math.max(1, grams.size() - 4 * maxEdits);
+        List<String> candidates = shared.entrySet().stream()
+            .filter(candidate -> candidate.getValue() >= minShared)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(MAX_CANDIDATES)
+            .map(Map.Entry::getKey)
+            .toList();
+
+        Map<String, Correction> best = new LinkedHashMap<>();
+        Map<String, Integer> usage = new HashMap<>();
+        for (String word : candidates) {
+            Correction correction = partial ? closestPrefix(token, word, maxEdits) : closestWord(token, word, maxEdits);
+            if (correction != null) {
+                best.merge(correction.token(), correction,
+                    (current, other) -> other.distance() < current.distance() ? other : current);
+                usage.merge(correction.token(), words.get(word), Integer::sum);
+            }
+        }
+        List<Correction> sorted = new ArrayList<>(best.values());
+        sorted.sort(Comparator.comparingInt(Correction::distance)
+            .thenComparing(correction -> -usage.get(correction.token())));
+        return sorted.size() <= limit ? sorted : sorted.subList(0, limit);
+    }
+
+    private static Correction closestWord(String token, String word, int maxEdits) {
+        if (Math.abs(word.length() - token.length()) > maxEdits) {
+            return null;
+        }
+        int distance = distance(token, word);
+        return distance > 0 && distance <= maxEdits ? new Correction(word, distance) : null;
+    }
+
+    /**
+     * O começo de {@code word} mais próximo de {@code token}, com até {@code maxEdits} caracteres
+     * a mais ou a menos.
+     */
+    private static Correction closestPrefix(String token, String word, int maxEdits) {
+        Correction closest = null;
+        int from = Math.max(1, token.length() - maxEdits);
+        int to = Math.min(word.length(), token.length() + maxEdits);
+        for (int length = from; length <= to; length++) {
+            String prefix = word.substring(0, length);
+            int distance = distance(token, prefix);
+            if (distance > 0 && distance <= maxEdits && (closest == null || distance < closest.distance())) {
+                closest = new Correction(prefix, distance);
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Distância de edição com transposição de vizinhos (optimal string alignment): "matirx" está a
+     * uma edição de "matrix".
+     */
+    static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = "^^" + word;
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,41 @@
+-- Esquema que o ddl-auto=update gerava a partir das entidades Content e ContentChange.
+-- Bancos já existentes entram por baseline na versão 0 e também rodam este script: cada versão
+-- anterior do ddl-auto deixou um subconjunto diferente (a tabela content com IDENTITY, sem
+-- sequences nem content_change), então tudo aqui é IF NOT EXISTS e só cria o que falta.
+
+CREATE SEQUENCE IF NOT EXISTS content_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS content_change_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS content (
+    id               bigint        NOT NULL,
+    title            varchar(255)  NOT NULL,
+    description      varchar(1000),
+    content_type     varchar(255)  NOT NULL CHECK (content_type IN ('MOVIE', 'SERIES', 'MUSIC', 'PODCAST')),
+    genre            varchar(100)  NOT NULL,
+    release_year     integer       NOT NULL CHECK (release_year >= 1900 AND release_year <= 2100),
+    rating           float(53),
+    duration_minutes integer       CHECK (duration_minutes >= 0),
+    total_episodes   integer       CHECK (total_episodes >= 0),
+    created_at       timestamp(6)  NOT NULL,
+    updated_at       timestamp(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS content_change (
+    id           bigint       NOT NULL,
+    content_id   bigint       NOT NULL,
+    change_type  varchar(16)  NOT NULL CHECK (change_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    changed_at   timestamp(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_content_type ON content (content_type);
+
+CREATE INDEX IF NOT EXISTS idx_content_genre ON content (genre);
+
+CREATE INDEX IF NOT EXISTS idx_content_rating ON content (rating);
+
+CREATE INDEX IF NOT EXISTS idx_content_updated_at ON content (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_content_change_position ON content_change (changed_at, id);
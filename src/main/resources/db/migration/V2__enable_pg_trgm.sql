@@ -0,0 +1,3 @@
+-- Trigramas para LOWER(title) LIKE '%termo%' (V3). pg_trgm é "trusted" a partir do PostgreSQL 13:
+-- o dono do banco pode criá-la sem superusuário.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,51 @@
+-- Índices para os filtros e ordenações que a busca realmente usa (ContentRepositoryCustomImpl,
+-- ReactiveContentRepository). Todos CONCURRENTLY: não bloqueiam escritas durante a criação, e o
+-- Flyway roda o script fora de transação. Se um deles falhar, o índice fica INVALID: remova-o com
+-- DROP INDEX CONCURRENTLY e rode flyway repair antes de migrar de novo.
+--
+-- Sem NULLS LAST nos índices: as páginas com offset ordenam por "rating DESC" (nulos primeiro no
+-- PostgreSQL), que é a leitura de trás para frente de (rating, id).
+
+-- Busca por trecho do título: LOWER(title) LIKE '%matrix%' não usa B-tree nenhum
+CREATE INDEX CONCURRENTLY idx_content_title_trgm ON content USING gin (lower(title) gin_trgm_ops);
+
+-- findByTitle (igualdade exata)
+CREATE INDEX CONCURRENTLY idx_content_title ON content (title);
+
+-- Um índice parcial por ContentType: cada linha entra em um só, e filtros por tipo (com ou sem
+-- genre/minRating/ano) leem só a fatia do tipo, já na ordem de rating. genre e release_year no
+-- INCLUDE deixam o COUNT da página como index-only scan.
+CREATE INDEX CONCURRENTLY idx_content_movie_rating ON content (rating, id)
+    INCLUDE (genre, release_year) WHERE content_type = 'MOVIE';
+
+CREATE INDEX CONCURRENTLY idx_content_series_rating ON content (rating, id)
+    INCLUDE (genre, release_year) WHERE content_type = 'SERIES';
+
+CREATE INDEX CONCURRENTLY idx_content_music_rating ON content (rating, id)
+    INCLUDE (genre, release_year) WHERE content_type = 'MUSIC';
+
+CREATE INDEX CONCURRENTLY idx_content_podcast_rating ON content (rating, id)
+    INCLUDE (genre, release_year) WHERE content_type = 'PODCAST';
+
+-- Navegação por gênero (+ tipo, nota mínima e ano), ordenada por rating
+CREATE INDEX CONCURRENTLY idx_content_genre_rating ON content (genre, rating, id)
+    INCLUDE (content_type, release_year);
+
+-- Faixa de anos e keyset por releaseYear (desempate por id)
+CREATE INDEX CONCURRENTLY idx_content_release_year ON content (release_year, id);
+
+-- Keyset por rating e por updatedAt sempre desempata pelo id
+CREATE INDEX CONCURRENTLY idx_content_rating_id ON content (rating, id);
+
+CREATE INDEX CONCURRENTLY idx_content_updated_at_id ON content (updated_at, id);
+
+-- Substituídos pelos acima: o de genre é prefixo de idx_content_genre_rating, os de rating e
+-- updated_at ganharam o id, e o de tipo (4 valores) perdeu para os parciais. IF EXISTS: bancos
+-- antigos podem não ter todos eles
+DROP INDEX CONCURRENTLY IF EXISTS idx_content_genre;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_content_rating;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_content_updated_at;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_content_type;
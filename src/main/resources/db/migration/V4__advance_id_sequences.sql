@@ -0,0 +1,6 @@
+-- Bancos da época do IDENTITY já têm ids gravados, e as sequences criadas na V1 começam em 1: o
+-- primeiro INSERT (ou bloco de 50 da importação em lote) colidiria com a chave primária.
+-- Avança as duas para depois do maior id existente; em banco vazio ficam em 1.
+SELECT setval('content_seq', COALESCE(max(id), 0) + 1) FROM content;
+
+SELECT setval('content_change_seq', COALESCE(max(id), 0) + 1) FROM content_change;
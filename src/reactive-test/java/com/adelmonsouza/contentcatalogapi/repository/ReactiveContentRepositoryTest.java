@@ -0,0 +1,68 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveContentRepositoryTest {
+
+    @Test
+    void column_ShouldFollowSpringBootNamingStrategy() {
+        assertEquals("id", ReactiveContentRepository.column(ContentField.ID));
+        assertEquals("content_type", ReactiveContentRepository.column(ContentField.CONTENT_TYPE));
+        assertEquals("duration_minutes", ReactiveContentRepository.column(ContentField.DURATION_MINUTES));
+        assertEquals("updated_at", ReactiveContentRepository.column(ContentField.UPDATED_AT));
+    }
+
+    @Test
+    void query_WithFilterAndPage_ShouldBindEveryValueAsParameter() {
+        // Given
+        SearchRequestDTO filter = SearchRequestDTO.builder()
+            .title("Matrix")
+            .contentType(ContentType.MOVIE)
+            .minYear(1990)
+            .minRating(8.0)
+            .build();
+
+        // When
+        ReactiveContentRepository.Query query = ReactiveContentRepository.Query
+            .select(List.of(ContentField.ID, ContentField.TITLE, ContentField.RELEASE_YEAR))
+            .where(filter)
+            .orderBy(Sort.by(Sort.Direction.DESC, "rating"))
+            .limit(20, 40);
+
+        // Then
+        assertEquals(
+            "SELECT id, title, release_year FROM content"
+                + " WHERE LOWER(title) LIKE $1 AND content_type = $2 AND release_year >= $3 AND rating >= $4"
+                + " ORDER BY rating DESC, id ASC LIMIT 20 OFFSET 40",
+            query.sql());
+        assertEquals(List.of("%matrix%", "MOVIE", 1990, 8.0), query.parameters());
+    }
+
+    @Test
+    void query_WithoutFilter_ShouldOrderByIdForStablePages() {
+        // When
+        ReactiveContentRepository.Query query = ReactiveContentRepository.Query
+            .select(List.of(ContentField.ID))
+            .where(null)
+            .orderBy(Sort.unsorted());
+
+        // Then
+        assertEquals("SELECT id FROM content ORDER BY id ASC", query.sql());
+        assertTrue(query.parameters().isEmpty());
+    }
+
+    @Test
+    void orderBy_WhenPropertyIsUnknown_ShouldThrowInvalidRequest() {
+        ReactiveContentRepository.Query query = ReactiveContentRepository.Query.select(List.of(ContentField.ID));
+
+        assertThrows(InvalidRequestException.class, () -> query.orderBy(Sort.by("title; DROP TABLE content")));
+    }
+}
@@ -0,0 +1,40 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Servidor e pools do profile {@code reactive} (spring.main.web-application-type=reactive).
+ *
+ * O Tomcat continua no classpath por causa do starter web; sem o factory explícito o Spring Boot
+ * o usaria também para o WebFlux, e o ponto da variante é o event loop do Netty.
+ *
+ * Com um ConnectionFactory R2DBC no contexto o Spring Boot não cria o DataSource JDBC, mas as
+ * escritas, o change feed e as cargas iniciais (índice, facetas, trie) continuam em JPA: o pool
+ * Hikari é declarado aqui, com spring.datasource.* e spring.datasource.hikari.* como antes.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    // Com réplicas, o DataSource vem do ReplicaRoutingConfig
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(name = "catalog.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
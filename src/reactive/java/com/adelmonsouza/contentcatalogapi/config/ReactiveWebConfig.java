@@ -0,0 +1,32 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Pageable e Sort nos controllers WebFlux, com o mesmo teto de página do Web MVC
+ * (spring.data.web.pageable.*, que o Spring Boot só aplica ao Web MVC).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private final int maxPageSize;
+
+    public ReactiveWebConfig(@Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactiveSortHandlerMethodArgumentResolver sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+        ReactivePageableHandlerMethodArgumentResolver pageableResolver = new ReactivePageableHandlerMethodArgumentResolver(sortResolver);
+        pageableResolver.setMaxPageSize(maxPageSize);
+        configurer.addCustomResolver(sortResolver, pageableResolver);
+    }
+}
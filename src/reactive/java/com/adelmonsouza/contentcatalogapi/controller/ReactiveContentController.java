@@ -0,0 +1,138 @@
+package com.adelmonsouza.contentcatalogapi.controller;
+
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetRequestDTO;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.service.ReactiveContentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * /api/content sobre WebFlux (profile {@code reactive}): as mesmas rotas e respostas do
+ * ContentController para CRUD, listagem, busca e busca em lote, mais o stream NDJSON.
+ *
+ * Requisições condicionais: o ResponseEntityResultHandler compara o ETag e o Last-Modified da
+ * resposta com If-None-Match/If-Modified-Since e responde 304 sem corpo.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/content")
+@RequiredArgsConstructor
+@Tag(name = "Content Catalog API (reactive)", description = "API de catálogo de conteúdo sobre WebFlux e R2DBC")
+public class ReactiveContentController {
+
+    private final ReactiveContentService reactiveContentService;
+
+    @PostMapping
+    @Operation(summary = "Criar novo conteúdo", description = "Cria um novo item no catálogo")
+    public Mono<ResponseEntity<ContentResponseDTO>> createContent(@Valid @RequestBody ContentCreateDTO dto) {
+        return reactiveContentService.createContent(dto)
+            .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar conteúdo", description = "Lista todo o conteúdo com paginação; fields=title,rating limita as colunas consultadas e os campos do JSON")
+    public Mono<ResponseEntity<Page<?>>> getAllContent(
+        @PageableDefault(size = 20) Pageable pageable,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        return reactiveContentService.getAllContent(pageable, selected)
+            .map(content -> ResponseEntity.ok()
+                .eTag(ContentEtags.ofList(content.getContent(),
+                    content.getTotalElements(), content.getNumber(), content.getSize(), content.getSort(), selected))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(render(content, selected)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream do catálogo", description = "Todo o conteúdo do filtro (filtros da busca como query params) em NDJSON ordenado por id, lido do banco conforme o cliente consome")
+    public Flux<Object> streamContent(
+        SearchRequestDTO filter,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        return reactiveContentService.streamContent(filter, selected)
+            .map(content -> render(content, selected));
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "Buscar conteúdos por IDs", description = "Busca até 500 conteúdos em uma única consulta, na ordem pedida, informando os IDs inexistentes")
+    public Mono<ResponseEntity<BatchGetResponseDTO>> batchGetContent(@Valid @RequestBody BatchGetRequestDTO request) {
+        return reactiveContentService.getContentByIds(request.ids()).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Buscar conteúdos por IDs (GET)", description = "Mesmo que batch-get, com os IDs separados por vírgula em ?ids=")
+    public Mono<ResponseEntity<BatchGetResponseDTO>> batchGetContentByQuery(@RequestParam List<Long> ids) {
+        return reactiveContentService.getContentByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar conteúdo por ID", description = "Retorna um conteúdo específico (fields= opcional); responde 304 para If-None-Match/If-Modified-Since ainda válidos")
+    public Mono<ResponseEntity<Object>> getContentById(
+        @PathVariable Long id,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        return reactiveContentService.getContentById(id, selected)
+            .map(content -> ResponseEntity.ok()
+                .eTag(ContentEtags.of(content.id(), content.updatedAt(), selected))
+                .lastModified(ContentEtags.lastModified(content.updatedAt()))
+                .body(render(content, selected)));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar conteúdo", description = "Atualiza um conteúdo existente")
+    public Mono<ResponseEntity<ContentResponseDTO>> updateContent(
+        @PathVariable Long id,
+        @Valid @RequestBody ContentCreateDTO dto
+    ) {
+        return reactiveContentService.updateContent(id, dto).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deletar conteúdo", description = "Remove um conteúdo do catálogo")
+    public Mono<ResponseEntity<Void>> deleteContent(@PathVariable Long id) {
+        return reactiveContentService.deleteContent(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PostMapping("/search")
+    @Operation(summary = "Buscar conteúdo", description = "Busca conteúdo com filtros avançados e paginação; aceita fields= como a listagem")
+    public Mono<ResponseEntity<Page<?>>> searchContent(
+        @RequestBody SearchRequestDTO searchRequest,
+        @PageableDefault(size = 20) Pageable pageable,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<ContentField> selected = ContentField.parse(fields);
+        return reactiveContentService.searchContent(searchRequest, pageable, selected)
+            .map(results -> ResponseEntity.ok(render(results, selected)));
+    }
+
+    private static Object render(ContentResponseDTO content, Set<ContentField> fields) {
+        return fields.containsAll(ContentField.ALL) ? content : ContentField.toMap(content, fields);
+    }
+
+    private static Page<?> render(Page<ContentResponseDTO> page, Set<ContentField> fields) {
+        return fields.containsAll(ContentField.ALL) ? page : page.map(content -> ContentField.toMap(content, fields));
+    }
+}
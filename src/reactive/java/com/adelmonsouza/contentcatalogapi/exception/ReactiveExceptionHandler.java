@@ -0,0 +1,51 @@
+package com.adelmonsouza.contentcatalogapi.exception;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Erros de entrada do WebFlux, que não passam pelos tipos do Web MVC tratados no
+ * {@link GlobalExceptionHandler} e cairiam no 500 genérico. O corpo é o mesmo do Web MVC.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleValidationException(WebExchangeBindException ex) {
+        Map<String, Object> errors = new HashMap<>();
+        errors.put("status", HttpStatus.BAD_REQUEST.value());
+        errors.put("timestamp", LocalDateTime.now());
+        errors.put("message", "Validation failed");
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+            fieldErrors.put(error.getField(), error.getDefaultMessage())
+        );
+        errors.put("errors", fieldErrors);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<GlobalExceptionHandler.ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        GlobalExceptionHandler.ErrorResponse error = new GlobalExceptionHandler.ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            ex.getReason(),
+            LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+}
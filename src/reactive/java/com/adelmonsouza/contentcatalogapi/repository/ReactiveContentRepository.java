@@ -0,0 +1,223 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Leituras de Content por R2DBC, com as mesmas projeções e filtros do ContentRepositoryCustomImpl:
+ * só as colunas pedidas (o id sempre vem) direto em ContentResponseDTO.
+ *
+ * O SQL é montado à mão porque Content é uma entidade JPA; nomes de coluna seguem a estratégia
+ * padrão do Spring Boot (contentType -> content_type). Valores sempre vão como parâmetros.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveContentRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveContentRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Flux<ContentResponseDTO> findAll(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable) {
+        List<ContentField> selected = withId(fields);
+        Query query = Query.select(selected).where(filter).orderBy(pageable.getSort());
+        if (pageable.isPaged()) {
+            query.limit(pageable.getPageSize(), pageable.getOffset());
+        }
+        return query.execute(databaseClient)
+            .map(row -> toResponse(row, selected))
+            .all();
+    }
+
+    public Mono<Long> count(SearchRequestDTO filter) {
+        return new Query("SELECT COUNT(*) FROM content").where(filter).execute(databaseClient)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+
+    public Mono<ContentResponseDTO> findById(Long id, Set<ContentField> fields) {
+        List<ContentField> selected = withId(fields);
+        return Query.select(selected).and("id = ", id).execute(databaseClient)
+            .map(row -> toResponse(row, selected))
+            .one();
+    }
+
+    /**
+     * Uma única consulta com {@code id = ANY($1)}; a ordem do resultado não é garantida.
+     */
+    public Flux<ContentResponseDTO> findByIds(Collection<Long> ids, Set<ContentField> fields) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        List<ContentField> selected = withId(fields);
+        return Query.select(selected).and("id = ANY(", ids.toArray(Long[]::new), ")").execute(databaseClient)
+            .map(row -> toResponse(row, selected))
+            .all();
+    }
+
+    /**
+     * Todas as linhas do filtro ordenadas por id. O driver busca {@code fetchSize} linhas por vez
+     * do cursor do PostgreSQL conforme a demanda do assinante, sem carregar o resultado inteiro.
+     */
+    public Flux<ContentResponseDTO> streamAll(SearchRequestDTO filter, Set<ContentField> fields, int fetchSize) {
+        List<ContentField> selected = withId(fields);
+        return Query.select(selected).where(filter).orderBy(Sort.by("id")).execute(databaseClient)
+            .filter(statement -> statement.fetchSize(fetchSize))
+            .map(row -> toResponse(row, selected))
+            .all();
+    }
+
+    static String column(ContentField field) {
+        return field.property().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<ContentField> withId(Set<ContentField> fields) {
+        EnumSet<ContentField> selected = EnumSet.of(ContentField.ID);
+        selected.addAll(fields);
+        return List.copyOf(selected);
+    }
+
+    private static ContentResponseDTO toResponse(Readable row, List<ContentField> fields) {
+        ContentResponseDTO.ContentResponseDTOBuilder builder = ContentResponseDTO.builder();
+        for (int i = 0; i < fields.size(); i++) {
+            ContentField field = fields.get(i);
+            field.apply(builder, read(row, i, field));
+        }
+        return builder.build();
+    }
+
+    private static Object read(Readable row, int index, ContentField field) {
+        return switch (field) {
+            case ID -> row.get(index, Long.class);
+            case CONTENT_TYPE -> {
+                String type = row.get(index, String.class);
+                yield type == null ? null : ContentType.valueOf(type);
+            }
+            case RELEASE_YEAR, DURATION_MINUTES, TOTAL_EPISODES -> row.get(index, Integer.class);
+            case RATING -> row.get(index, Double.class);
+            case CREATED_AT, UPDATED_AT -> row.get(index, LocalDateTime.class);
+            default -> row.get(index, String.class);
+        };
+    }
+
+    /**
+     * SELECT com WHERE em parâmetros posicionais ($1, $2...) do PostgreSQL.
+     */
+    static final class Query {
+
+        private final String select;
+        private final List<Object> parameters = new ArrayList<>();
+        private final List<String> predicates = new ArrayList<>();
+        private String orderBy = "";
+        private String limit = "";
+
+        Query(String select) {
+            this.select = select;
+        }
+
+        static Query select(List<ContentField> fields) {
+            return new Query("SELECT " + fields.stream()
+                .map(ReactiveContentRepository::column)
+                .collect(Collectors.joining(", ")) + " FROM content");
+        }
+
+        Query where(SearchRequestDTO filter) {
+            if (filter == null) {
+                return this;
+            }
+            if (filter.title() != null) {
+                and("LOWER(title) LIKE ", "%" + filter.title().toLowerCase(Locale.ROOT) + "%");
+            }
+            if (filter.contentType() != null) {
+                and("content_type = ", filter.contentType().name());
+            }
+            if (filter.genre() != null) {
+                and("genre = ", filter.genre());
+            }
+            if (filter.minYear() != null) {
+                and("release_year >= ", filter.minYear());
+            }
+            if (filter.maxYear() != null) {
+                and("release_year <= ", filter.maxYear());
+            }
+            if (filter.minRating() != null) {
+                and("rating >= ", filter.minRating());
+            }
+            return this;
+        }
+
+        Query and(String prefix, Object value) {
+            return and(prefix, value, "");
+        }
+
+        Query and(String prefix, Object value, String suffix) {
+            parameters.add(value);
+            predicates.add(prefix + "$" + parameters.size() + suffix);
+            return this;
+        }
+
+        /**
+         * Só propriedades de ContentField viram colunas; o id desempata para uma paginação estável.
+         */
+        Query orderBy(Sort sort) {
+            Map<String, String> orders = new LinkedHashMap<>();
+            for (Sort.Order order : sort) {
+                ContentField field = ContentField.fromProperty(order.getProperty())
+                    .orElseThrow(() -> new InvalidRequestException("Unknown sort property: " + order.getProperty()));
+                orders.putIfAbsent(column(field), column(field) + (order.isAscending() ? " ASC" : " DESC"));
+            }
+            orders.putIfAbsent("id", "id ASC");
+            orderBy = " ORDER BY " + String.join(", ", orders.values());
+            return this;
+        }
+
+        Query limit(int size, long offset) {
+            limit = " LIMIT " + size + " OFFSET " + offset;
+            return this;
+        }
+
+        String sql() {
+            StringBuilder statement = new StringBuilder(select);
+            if (!predicates.isEmpty()) {
+                statement.append(" WHERE ").append(String.join(" AND ", predicates));
+            }
+            return statement.append(orderBy).append(limit).toString();
+        }
+
+        List<Object> parameters() {
+            return parameters;
+        }
+
+        DatabaseClient.GenericExecuteSpec execute(DatabaseClient databaseClient) {
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql());
+            for (int i = 0; i < parameters.size(); i++) {
+                spec = spec.bind(i, parameters.get(i));
+            }
+            return spec;
+        }
+    }
+}
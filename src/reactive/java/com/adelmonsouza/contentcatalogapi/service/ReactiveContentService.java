@@ -0,0 +1,195 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.cache.ContentCache;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ReactiveContentRepository;
+import com.adelmonsouza.contentcatalogapi.search.ContentSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Variante não bloqueante do {@link ContentService} para o profile reactive.
+ *
+ * Leituras vão ao PostgreSQL por R2DBC, sem prender uma thread por requisição; o cache, quando
+ * já tem a linha, e o índice de busca em memória continuam valendo. Escritas delegam ao
+ * ContentService em {@link Schedulers#boundedElastic()}: o change feed grava na mesma transação
+ * JPA e os listeners pós-commit (cache, índice, facetas) dependem dela.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveContentService {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final ReactiveContentRepository reactiveContentRepository;
+    private final ContentService contentService;
+    private final ContentSearchIndex contentSearchIndex;
+    private final ContentCache contentCache;
+    private final int streamFetchSize;
+
+    public ReactiveContentService(
+        ReactiveContentRepository reactiveContentRepository,
+        ContentService contentService,
+        ContentSearchIndex contentSearchIndex,
+        ContentCache contentCache,
+        @Value("${catalog.export.fetch-size:1000}") int streamFetchSize
+    ) {
+        this.reactiveContentRepository = reactiveContentRepository;
+        this.contentService = contentService;
+        this.contentSearchIndex = contentSearchIndex;
+        this.contentCache = contentCache;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    public Mono<Page<ContentResponseDTO>> getAllContent(Pageable pageable, Set<ContentField> fields) {
+        return findPage(null, queriedFields(fields), pageable);
+    }
+
+    /**
+     * Mesmas regras do ContentService: hit no cache serve qualquer subconjunto de campos, e só a
+     * leitura completa popularia o cache (aqui não popula, para não competir com a invalidação
+     * pós-commit de uma escrita concorrente).
+     */
+    public Mono<ContentResponseDTO> getContentById(Long id, Set<ContentField> fields) {
+        ContentResponseDTO cached = contentCache.peek(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return reactiveContentRepository.findById(id, queriedFields(fields))
+            .switchIfEmpty(Mono.error(() -> new ContentNotFoundException("Content not found with id: " + id)));
+    }
+
+    /**
+     * Hits do cache primeiro, o restante numa única consulta; ordem do pedido e ids inexistentes
+     * como no ContentService.
+     */
+    public Mono<BatchGetResponseDTO> getContentByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new InvalidRequestException("At most " + MAX_BATCH_SIZE + " ids per batch"));
+        }
+        List<Long> uncached = requested.stream()
+            .filter(id -> contentCache.peek(id) == null)
+            .toList();
+        return reactiveContentRepository.findByIds(uncached, ContentField.ALL)
+            .collectMap(ContentResponseDTO::id, Function.identity())
+            .map(loaded -> {
+                List<ContentResponseDTO> content = new ArrayList<>(requested.size());
+                List<Long> missingIds = new ArrayList<>();
+                for (Long id : requested) {
+                    ContentResponseDTO item = loaded.containsKey(id) ? loaded.get(id) : contentCache.peek(id);
+                    if (item != null) {
+                        content.add(item);
+                    } else {
+                        missingIds.add(id);
+                    }
+                }
+                return new BatchGetResponseDTO(content, missingIds);
+            });
+    }
+
+    public Mono<Page<ContentResponseDTO>> searchContent(SearchRequestDTO searchRequest, Pageable pageable,
+                                                        Set<ContentField> fields) {
+        if (contentSearchIndex.canServe(pageable)) {
+            return searchWithIndex(searchRequest, pageable, queriedFields(fields));
+        }
+        return findPage(searchRequest, queriedFields(fields), pageable);
+    }
+
+    /**
+     * Todo o resultado do filtro, na velocidade de quem consome: o R2DBC só pede ao PostgreSQL o
+     * próximo lote quando o anterior foi escrito na resposta.
+     */
+    public Flux<ContentResponseDTO> streamContent(SearchRequestDTO filter, Set<ContentField> fields) {
+        return reactiveContentRepository.streamAll(filter, queriedFields(fields), streamFetchSize);
+    }
+
+    public Mono<ContentResponseDTO> createContent(ContentCreateDTO dto) {
+        return blocking(() -> contentService.createContent(dto));
+    }
+
+    public Mono<ContentResponseDTO> updateContent(Long id, ContentCreateDTO dto) {
+        return blocking(() -> contentService.updateContent(id, dto));
+    }
+
+    public Mono<Void> deleteContent(Long id) {
+        return blocking(() -> {
+            contentService.deleteContent(id);
+            return null;
+        }).then();
+    }
+
+    /**
+     * O COUNT só roda quando a página não basta para saber o total, como no PageableExecutionUtils.
+     */
+    private Mono<Page<ContentResponseDTO>> findPage(SearchRequestDTO filter, Set<ContentField> fields, Pageable pageable) {
+        return reactiveContentRepository.findAll(filter, fields, pageable)
+            .collectList()
+            .flatMap(content -> {
+                if (pageable.isUnpaged()) {
+                    return Mono.just(page(content, pageable, content.size()));
+                }
+                boolean lastPage = content.size() < pageable.getPageSize()
+                    && (pageable.getOffset() == 0 || !content.isEmpty());
+                if (lastPage) {
+                    return Mono.just(page(content, pageable, pageable.getOffset() + content.size()));
+                }
+                return reactiveContentRepository.count(filter)
+                    .map(total -> page(content, pageable, total));
+            });
+    }
+
+    private Mono<Page<ContentResponseDTO>> searchWithIndex(SearchRequestDTO searchRequest, Pageable pageable,
+                                                           Set<ContentField> fields) {
+        ContentSearchIndex.SearchHits hits = contentSearchIndex.search(searchRequest, pageable);
+        return reactiveContentRepository.findByIds(hits.ids(), fields)
+            .collectMap(ContentResponseDTO::id, Function.identity())
+            .map(rows -> {
+                List<ContentResponseDTO> content = hits.ids().stream()
+                    .map(rows::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+                return page(content, pageable, hits.total());
+            });
+    }
+
+    private static Page<ContentResponseDTO> page(List<ContentResponseDTO> content, Pageable pageable, long total) {
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // updatedAt sempre vem do banco: é a base dos ETags, mesmo quando não vai para o JSON
+    private static Set<ContentField> queriedFields(Set<ContentField> fields) {
+        if (fields.contains(ContentField.UPDATED_AT)) {
+            return fields;
+        }
+        EnumSet<ContentField> queried = EnumSet.of(ContentField.UPDATED_AT);
+        queried.addAll(fields);
+        return queried;
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
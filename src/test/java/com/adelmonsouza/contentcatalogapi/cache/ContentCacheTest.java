@@ -0,0 +1,138 @@
+package com.adelmonsouza.contentcatalogapi.cache;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ContentCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeHitsFromCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, id -> { loads.incrementAndGet(); return dto(id, "The Matrix"); });
+        ContentResponseDTO second = cache.get(1L, id -> { loads.incrementAndGet(); return dto(id, "Other"); });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals("The Matrix", second.title());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "content").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    void onContentChanged_WhenUpdated_ShouldInvalidateEntry() {
+        // Given
+        cache.get(1L, id -> dto(id, "The Matrix"));
+
+        // When
+        cache.onContentChanged(ContentChangedEvent.updated(dto(1L, "The Matrix"), dto(1L, "The Matrix Reloaded")));
+        ContentResponseDTO result = cache.get(1L, id -> dto(id, "The Matrix Reloaded"));
+
+        // Then
+        assertEquals("The Matrix Reloaded", result.title());
+    }
+
+    @Test
+    void get_WhenIdWasNotWrittenHere_ShouldLoadOutsidePrimaryReads() {
+        // When
+        cache.get(1L, id -> dto(id, PrimaryReads.isActive() ? "primary" : "replica"));
+
+        // Then
+        assertEquals("replica", cache.peek(1L).title());
+    }
+
+    @Test
+    void get_WhenIdWasWrittenRecently_ShouldLoadInsidePrimaryReads() {
+        // Given
+        cache.onContentChanged(ContentChangedEvent.updated(dto(1L, "The Matrix"), dto(1L, "The Matrix Reloaded")));
+
+        // When
+        ContentResponseDTO one = cache.get(1L, id -> dto(id, PrimaryReads.isActive() ? "primary" : "replica"));
+        cache.invalidate(1L);
+        Map<Long, ContentResponseDTO> all = cache.getAll(List.of(1L, 2L), missing -> {
+            Map<Long, ContentResponseDTO> loaded = new HashMap<>();
+            missing.forEach(id -> loaded.put(id, dto(id, PrimaryReads.isActive() ? "primary" : "replica")));
+            return loaded;
+        });
+
+        // Then
+        assertEquals("primary", one.title());
+        // Um id recém-escrito leva o lote inteiro ao primário
+        assertEquals("primary", all.get(2L).title());
+    }
+
+    @Test
+    void get_WhenWriteWindowIsOver_ShouldLoadOutsidePrimaryReads() {
+        // Given
+        ContentCache noWindow = new ContentCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ZERO);
+        noWindow.onContentChanged(ContentChangedEvent.updated(dto(1L, "The Matrix"), dto(1L, "The Matrix Reloaded")));
+
+        // When
+        ContentResponseDTO result = noWindow.get(1L, id -> dto(id, PrimaryReads.isActive() ? "primary" : "replica"));
+
+        // Then
+        assertEquals("replica", result.title());
+    }
+
+    @Test
+    void get_WhenInvalidatedDuringLoad_ShouldNotCacheStaleValue() {
+        // When
+        ContentResponseDTO stale = cache.get(1L, id -> {
+            cache.invalidate(id);
+            return dto(id, "Stale");
+        });
+        ContentResponseDTO fresh = cache.get(1L, id -> dto(id, "Fresh"));
+
+        // Then
+        assertEquals("Stale", stale.title());
+        assertEquals("Fresh", fresh.title());
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissingIdsInOneCall() {
+        // Given
+        cache.get(1L, id -> dto(id, "The Matrix"));
+        List<Set<Long>> loaderCalls = new ArrayList<>();
+
+        // When
+        Map<Long, ContentResponseDTO> result = cache.getAll(List.of(1L, 2L, 3L), ids -> {
+            loaderCalls.add(ids);
+            return Map.of(2L, dto(2L, "Dark"));
+        });
+        ContentResponseDTO cachedAfterBatch = cache.get(2L, id -> dto(id, "Other"));
+
+        // Then
+        assertEquals(List.of(Set.of(2L, 3L)), loaderCalls);
+        assertEquals(Set.of(1L, 2L), result.keySet());
+        assertEquals("Dark", cachedAfterBatch.title());
+    }
+
+    private ContentResponseDTO dto(Long id, String title) {
+        return ContentResponseDTO.builder().id(id).title(title).build();
+    }
+}
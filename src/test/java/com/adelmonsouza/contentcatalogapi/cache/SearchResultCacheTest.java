@@ -0,0 +1,181 @@
+package com.adelmonsouza.contentcatalogapi.cache;
+
+import com.adelmonsouza.contentcatalogapi.config.PrimaryReads;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("rating").descending());
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchGenerations generations;
+    private SearchResultCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        generations = new SearchGenerations();
+        cache = new SearchResultCache(meterRegistry, generations, true, 1000, Duration.ofMinutes(5),
+            Duration.ofSeconds(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_WithEquivalentFilters_ShouldShareOneEntry() {
+        // Given
+        SearchRequestDTO first = SearchRequestDTO.builder().title("Matrix").genre("Sci-Fi").build();
+        SearchRequestDTO second = SearchRequestDTO.builder().title("MATRIX").genre("Sci-Fi").build();
+
+        // When
+        search(first, FIRST_PAGE);
+        search(second, FIRST_PAGE);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("catalog.cache.search.hit-ratio").gauge().value());
+    }
+
+    @Test
+    void get_WithDifferentPageOrSort_ShouldLoadSeparately() {
+        // Given
+        SearchRequestDTO request = SearchRequestDTO.builder().genre("Drama").build();
+
+        // When
+        search(request, FIRST_PAGE);
+        search(request, PageRequest.of(1, 20, Sort.by("rating").descending()));
+        search(request, PageRequest.of(0, 20, Sort.by("title")));
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onContentChanged_ShouldInvalidateOnlyAffectedGenres() {
+        // Given
+        SearchRequestDTO drama = SearchRequestDTO.builder().genre("Drama").build();
+        SearchRequestDTO comedy = SearchRequestDTO.builder().genre("Comedy").build();
+        search(drama, FIRST_PAGE);
+        search(comedy, FIRST_PAGE);
+
+        // When
+        generations.onContentChanged(ContentChangedEvent.created(content(1L, ContentType.MOVIE, "Drama")));
+        search(drama, FIRST_PAGE);
+        search(comedy, FIRST_PAGE);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void onContentChanged_WhenGenreChanges_ShouldInvalidatePreviousAndCurrentGenre() {
+        // Given
+        SearchRequestDTO drama = SearchRequestDTO.builder().genre("Drama").build();
+        SearchRequestDTO comedy = SearchRequestDTO.builder().genre("Comedy").build();
+        search(drama, FIRST_PAGE);
+        search(comedy, FIRST_PAGE);
+
+        // When
+        generations.onContentChanged(ContentChangedEvent.updated(
+            content(1L, ContentType.MOVIE, "Drama"), content(1L, ContentType.MOVIE, "Comedy")));
+        search(drama, FIRST_PAGE);
+        search(comedy, FIRST_PAGE);
+
+        // Then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void onContentChanged_ShouldInvalidateTypeAndUnfilteredSearches() {
+        // Given
+        SearchRequestDTO movies = SearchRequestDTO.builder().contentType(ContentType.MOVIE).build();
+        SearchRequestDTO series = SearchRequestDTO.builder().contentType(ContentType.SERIES).build();
+        SearchRequestDTO all = SearchRequestDTO.builder().minRating(8.0).build();
+        search(movies, FIRST_PAGE);
+        search(series, FIRST_PAGE);
+        search(all, FIRST_PAGE);
+
+        // When
+        generations.onContentChanged(ContentChangedEvent.deleted(1L, content(1L, ContentType.MOVIE, "Drama")));
+        search(movies, FIRST_PAGE);
+        search(series, FIRST_PAGE);
+        search(all, FIRST_PAGE);
+
+        // Then
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void get_ShouldLoadInsidePrimaryReadsOnlyForRecentlyWrittenFacets() {
+        // Given
+        SearchRequestDTO drama = SearchRequestDTO.builder().genre("Drama").build();
+        SearchRequestDTO comedy = SearchRequestDTO.builder().genre("Comedy").build();
+        generations.onContentChanged(ContentChangedEvent.created(content(1L, ContentType.MOVIE, "Drama")));
+        AtomicInteger primaryLoads = new AtomicInteger();
+
+        // When
+        for (SearchRequestDTO request : List.of(drama, comedy)) {
+            cache.get(request, FIRST_PAGE, ContentField.ALL, () -> {
+                if (PrimaryReads.isActive()) {
+                    primaryLoads.incrementAndGet();
+                }
+                return page(1);
+            });
+        }
+
+        // Then
+        assertEquals(1, primaryLoads.get());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        // Given
+        SearchResultCache disabled = new SearchResultCache(meterRegistry, generations, false, 1000,
+            Duration.ofMinutes(5), Duration.ofSeconds(5));
+        SearchRequestDTO request = SearchRequestDTO.builder().genre("Drama").build();
+
+        // When
+        disabled.get(request, FIRST_PAGE, ContentField.ALL, () -> { loads.incrementAndGet(); return page(1); });
+        disabled.get(request, FIRST_PAGE, ContentField.ALL, () -> { loads.incrementAndGet(); return page(1); });
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private Page<ContentResponseDTO> search(SearchRequestDTO request, Pageable pageable) {
+        return cache.get(request, pageable, ContentField.ALL, () -> {
+            loads.incrementAndGet();
+            return page(1);
+        });
+    }
+
+    private static Page<ContentResponseDTO> page(int size) {
+        List<ContentResponseDTO> content = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> content(id, ContentType.MOVIE, "Drama"))
+            .toList();
+        return new PageImpl<>(content);
+    }
+
+    private static ContentResponseDTO content(Long id, ContentType type, String genre) {
+        return ContentResponseDTO.builder().id(id).title("Title " + id).contentType(type).genre(genre).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.adelmonsouza.contentcatalogapi.changefeed;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent.ChangeType;
+import com.adelmonsouza.contentcatalogapi.exception.ChangeFeedExpiredException;
+import com.adelmonsouza.contentcatalogapi.model.ContentChange;
+import com.adelmonsouza.contentcatalogapi.repository.ContentChangeRepository;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentChangeFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Mock
+    private ContentChangeRepository changeRepository;
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    private ContentChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new ContentChangeFeed(changeRepository, contentRepository, Duration.ofSeconds(5), Duration.ofDays(7));
+    }
+
+    @Test
+    void read_ShouldReturnSettledChangesWithCurrentState() {
+        // Given
+        LocalDateTime settled = NOW.minusSeconds(5);
+        when(changeRepository.findAfter(eq(ChangeFeedCursor.START.changedAt()), eq(0L), eq(settled), any()))
+            .thenReturn(List.of(change(10L, 1L, ChangeType.CREATED), change(11L, 2L, ChangeType.DELETED)));
+        when(contentRepository.findResponsesByIds(List.of(1L), ContentField.ALL))
+            .thenReturn(List.of(ContentResponseDTO.builder().id(1L).title("The Matrix").build()));
+
+        // When
+        CursorPageDTO<ContentChangeDTO> page = changeFeed.read(null, 10, NOW);
+
+        // Then
+        assertEquals(2, page.content().size());
+        assertEquals("The Matrix", page.content().get(0).content().title());
+        assertNull(page.content().get(1).content());
+        assertFalse(page.hasNext());
+        // Sem próxima página, o cursor avança até o limite de estabilização
+        assertEquals(new ChangeFeedCursor(settled, 0L), ChangeFeedCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void read_WhenMoreThanPageSize_ShouldContinueFromLastChange() {
+        // Given
+        when(changeRepository.findAfter(any(), any(), any(), any()))
+            .thenReturn(List.of(change(10L, 1L, ChangeType.DELETED), change(11L, 2L, ChangeType.DELETED)));
+
+        // When
+        CursorPageDTO<ContentChangeDTO> page = changeFeed.read(null, 1, NOW);
+
+        // Then
+        assertEquals(1, page.content().size());
+        assertTrue(page.hasNext());
+        assertEquals(page.content().get(0).cursor(), page.nextCursor());
+        verifyNoInteractions(contentRepository);
+    }
+
+    @Test
+    void read_WhenCursorOlderThanRetention_ShouldThrowExpired() {
+        // Given
+        String cursor = new ChangeFeedCursor(NOW.minusDays(8), 42L).encode();
+
+        // When & Then
+        assertThrows(ChangeFeedExpiredException.class, () -> changeFeed.read(cursor, 10, NOW));
+        verifyNoInteractions(changeRepository);
+    }
+
+    private static ContentChange change(Long id, Long contentId, ChangeType type) {
+        return ContentChange.builder()
+            .id(id)
+            .contentId(contentId)
+            .changeType(type)
+            .changedAt(NOW.minusMinutes(1))
+            .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+        1, Duration.ofMillis(50), new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+
+    @Test
+    void doFilter_WhenPermitsExhausted_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/content/1"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        inside.countDown();
+                        await(finish);
+                    });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(inside.await(1, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/content/2"), rejected, new MockFilterChain());
+        finish.countDown();
+        holder.join();
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("catalog.concurrency.rejected").counter().count());
+    }
+
+    @Test
+    void doFilter_AfterRequestCompletes_ShouldReleasePermit() throws Exception {
+        // Given
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/content/1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/content/1"), response, new MockFilterChain());
+
+        // Then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_OutsideApi_ShouldNotBeLimited() throws Exception {
+        // Given
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/content"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        inside.countDown();
+                        await(finish);
+                    });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(inside.await(1, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+        finish.countDown();
+        holder.join();
+
+        // Then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_ChangeStream_ShouldNotHoldPermit() throws Exception {
+        // Given
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/content/1"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        inside.countDown();
+                        await(finish);
+                    });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(inside.await(1, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/content/changes/stream"), response, new MockFilterChain());
+        finish.countDown();
+        holder.join();
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(0.0, meterRegistry.get("catalog.concurrency.rejected").counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.adelmonsouza.contentcatalogapi.cache.ContentCache;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roteamento contra dois PostgreSQL de verdade (requer Docker). Os bancos são independentes,
+ * então cada um guarda o próprio nome numa tabela e a leitura mostra para onde a conexão foi.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingContainersTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private HikariDataSource primaryPool;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primaryPool = pool("primary", primary);
+        HikariDataSource replicaPool = pool("replica-0", replica);
+        for (HikariDataSource pool : List.of(primaryPool, replicaPool)) {
+            JdbcTemplate setup = new JdbcTemplate(pool);
+            setup.execute("CREATE TABLE IF NOT EXISTS node (name text)");
+            setup.execute("TRUNCATE node");
+            setup.update("INSERT INTO node VALUES (?)", pool.getPoolName());
+        }
+        routing = new ReplicaRoutingDataSource(primaryPool, List.of(replicaPool),
+            ReplicaRoutingDataSource.Selection.ROUND_ROBIN, Duration.ofSeconds(2), new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+        primaryPool.close();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldReadFromTheReplica() {
+        // When
+        routing.checkReplicaLag();
+        String read = readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+        String written = readWrite.execute(status -> {
+            jdbc.update("UPDATE node SET name = name");
+            return jdbc.queryForObject("SELECT name FROM node", String.class);
+        });
+
+        // Then
+        assertEquals("replica-0", read);
+        assertEquals("primary", written);
+    }
+
+    @Test
+    void readOnlyTransactions_WhenReplicaIsDown_ShouldFallBackToPrimary() {
+        // Given
+        routing.checkReplicaLag();
+        replica.getDockerClient().pauseContainerCmd(replica.getContainerId()).exec();
+        try {
+            // When
+            routing.checkReplicaLag();
+            String read = readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+
+            // Then
+            assertEquals("primary", read);
+        } finally {
+            replica.getDockerClient().unpauseContainerCmd(replica.getContainerId()).exec();
+        }
+    }
+
+    @Test
+    void contentCacheMisses_ShouldReadFromTheReplicaUnlessTheIdWasJustWritten() {
+        // Given
+        ContentCache cache = new ContentCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10),
+            Duration.ofSeconds(5));
+        Function<Long, ContentResponseDTO> loader = id -> readOnly.execute(status -> ContentResponseDTO.builder()
+            .id(id)
+            .title(jdbc.queryForObject("SELECT name FROM node", String.class))
+            .build());
+        routing.checkReplicaLag();
+
+        // When
+        String miss = cache.get(1L, loader).title();
+        ContentResponseDTO written = ContentResponseDTO.builder().id(2L).build();
+        cache.onContentChanged(ContentChangedEvent.updated(written, written));
+        String afterWrite = cache.get(2L, loader).title();
+
+        // Then
+        assertEquals("replica-0", miss);
+        assertEquals("primary", afterWrite);
+    }
+
+    private static HikariDataSource pool(String name, PostgreSQLContainer<?> container) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(container.getJdbcUrl());
+        pool.setUsername(container.getUsername());
+        pool.setPassword(container.getPassword());
+        pool.setConnectionTimeout(1000);
+        return pool;
+    }
+}
@@ -0,0 +1,106 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldSendOnlyReadOnlyTransactionsToReplicasInTurn() {
+        // Given
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+            replica("replica-0", 0.0), replica("replica-1", 0.0));
+        routing.checkReplicaLag();
+
+        // When
+        Object write = routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        List<Object> reads = List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey());
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, write);
+        assertEquals(List.of("replica-0", "replica-1"), reads);
+        assertEquals(1.0, meterRegistry.get("catalog.datasource.routed").tag("target", "replica-1").counter().count());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldSkipLaggingAndUnreachableReplicas() throws Exception {
+        // Given
+        HikariDataSource lagging = replica("replica-0", 5.0);
+        HikariDataSource down = replica("replica-1", 0.0);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.LEAST_LOADED, lagging, down);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        routing.checkReplicaLag();
+        Object target = routing.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, target);
+        assertEquals(1.0, meterRegistry.get("catalog.datasource.replica.fallback").counter().count());
+        assertEquals(5.0, meterRegistry.get("catalog.datasource.replica.lag").tag("pool", "replica-0").gauge().value());
+    }
+
+    @Test
+    void determineCurrentLookupKey_InsidePrimaryReads_ShouldUsePrimaryForReadOnlyTransactions() {
+        // Given
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+            replica("replica-0", 0.0));
+        routing.checkReplicaLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object cacheFill = PrimaryReads.call(routing::determineCurrentLookupKey);
+        Object read = routing.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, cacheFill);
+        assertEquals("replica-0", read);
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaRoutingDataSource.Selection selection, HikariDataSource... replicas) {
+        return new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replicas), selection,
+            Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private static HikariDataSource replica(String name, double lagSeconds) {
+        HikariDataSource replica = mock(HikariDataSource.class);
+        when(replica.getPoolName()).thenReturn(name);
+        try {
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            ResultSet result = mock(ResultSet.class);
+            when(replica.getConnection()).thenReturn(connection);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(result.next()).thenReturn(true);
+            when(result.getDouble(1)).thenReturn(lagSeconds);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return replica;
+    }
+}
@@ -0,0 +1,52 @@
+package com.adelmonsouza.contentcatalogapi.config;
+
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlowQueryLoggingAspectTest {
+
+    @Test
+    void logSlowQuery_WhenAboveThreshold_ShouldCountByMethod() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ContentRepository repository = mock(ContentRepository.class);
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        ContentRepository proxied = proxy(repository, new SlowQueryLoggingAspect(Duration.ZERO, meterRegistry));
+
+        // When
+        proxied.findById(1L);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("catalog.repository.slow").tag("method", "findById").counter().count());
+    }
+
+    @Test
+    void logSlowQuery_WhenBelowThreshold_ShouldNotCount() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ContentRepository proxied = proxy(mock(ContentRepository.class),
+            new SlowQueryLoggingAspect(Duration.ofMinutes(1), meterRegistry));
+
+        // When
+        proxied.findById(1L);
+
+        // Then
+        assertNull(meterRegistry.find("catalog.repository.slow").counter());
+    }
+
+    private ContentRepository proxy(ContentRepository target, SlowQueryLoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(ContentRepository.class);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
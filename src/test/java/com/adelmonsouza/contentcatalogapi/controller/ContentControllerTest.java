@@ -1,10 +1,24 @@
 package com.adelmonsouza.contentcatalogapi.controller;
 
 import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SuggestionDTO;
+import com.adelmonsouza.contentcatalogapi.facet.ContentFacetCounts;
+import com.adelmonsouza.contentcatalogapi.leaderboard.TopRatedLeaderboard;
 import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.service.ContentBulkImporter;
+import com.adelmonsouza.contentcatalogapi.service.ContentExportService;
 import com.adelmonsouza.contentcatalogapi.service.ContentService;
+import com.adelmonsouza.contentcatalogapi.service.ContentWriteBuffer;
+import com.adelmonsouza.contentcatalogapi.service.ExportFormat;
+import com.adelmonsouza.contentcatalogapi.suggest.TitleSuggester;
+import com.adelmonsouza.contentcatalogapi.config.ColumnarPageHttpMessageConverter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,11 +28,22 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +57,24 @@ class ContentControllerTest {
     @MockBean
     private ContentService contentService;
     
+    @MockBean
+    private ContentBulkImporter contentBulkImporter;
+    
+    @MockBean
+    private ContentExportService contentExportService;
+    
+    @MockBean
+    private ContentFacetCounts contentFacetCounts;
+    
+    @MockBean
+    private TopRatedLeaderboard topRatedLeaderboard;
+    
+    @MockBean
+    private ContentWriteBuffer contentWriteBuffer;
+    
+    @MockBean
+    private TitleSuggester titleSuggester;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -83,7 +126,7 @@ class ContentControllerTest {
             PageRequest.of(0, 20),
             1
         );
-        when(contentService.getAllContent(any())).thenReturn(page);
+        when(contentService.getAllContent(any(), eq(ContentField.ALL))).thenReturn(page);
         
         // When & Then
         mockMvc.perform(get("/api/content"))
@@ -92,17 +135,118 @@ class ContentControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
     
+    @Test
+    void getAllContent_WithColumnarAccept_ShouldReturnOneArrayPerField() throws Exception {
+        // Given
+        Page<ContentResponseDTO> page = new PageImpl<>(
+            List.of(createMockResponse(), createMockResponse()),
+            PageRequest.of(0, 20),
+            2
+        );
+        when(contentService.getAllContent(any(), eq(Set.of(ContentField.ID, ContentField.TITLE)))).thenReturn(page);
+        
+        // When & Then
+        mockMvc.perform(get("/api/content").param("fields", "title").accept(ColumnarPageHttpMessageConverter.COLUMNAR_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ColumnarPageHttpMessageConverter.COLUMNAR_JSON))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.columns.id").value(contains(1, 1)))
+                .andExpect(jsonPath("$.columns.title[1]").value("The Matrix"))
+                .andExpect(jsonPath("$.columns.rating").doesNotExist());
+    }
+    
+    @Test
+    void getAllContent_WithCborAccept_ShouldReturnTheSamePageInCbor() throws Exception {
+        // Given
+        Page<ContentResponseDTO> page = new PageImpl<>(List.of(createMockResponse()), PageRequest.of(0, 20), 1);
+        when(contentService.getAllContent(any(), eq(ContentField.ALL))).thenReturn(page);
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/content").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        
+        // Then
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("The Matrix", body.at("/content/0/title").asText());
+        assertEquals(1, body.get("totalElements").asInt());
+    }
+    
+    @Test
+    void getAllContent_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        ContentResponseDTO sparse = ContentResponseDTO.builder()
+            .id(1L)
+            .title("The Matrix")
+            .updatedAt(LocalDateTime.now())
+            .build();
+        when(contentService.getAllContent(any(), eq(Set.of(ContentField.ID, ContentField.TITLE, ContentField.RATING))))
+            .thenReturn(new PageImpl<>(List.of(sparse), PageRequest.of(0, 20), 1));
+        
+        // When & Then
+        mockMvc.perform(get("/api/content").param("fields", "title,rating"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].title").value("The Matrix"))
+                .andExpect(jsonPath("$.content[0].rating").isEmpty())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].updatedAt").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+    
+    @Test
+    void getContentById_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/content/1").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("Unknown field: secret")));
+    }
+    
     @Test
     void getContentById_ShouldReturnContent() throws Exception {
         // Given
         ContentResponseDTO response = createMockResponse();
-        when(contentService.getContentById(1L)).thenReturn(response);
+        when(contentService.getContentById(1L, ContentField.ALL)).thenReturn(response);
         
         // When & Then
         mockMvc.perform(get("/api/content/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.title").value("The Matrix"));
+                .andExpect(jsonPath("$.title").value("The Matrix"))
+                .andExpect(header().string("ETag", ContentEtags.of(1L, response.updatedAt())))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().exists("Last-Modified"));
+    }
+    
+    @Test
+    void getContentById_WhenEtagMatches_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789);
+        when(contentService.getContentLastModified(1L)).thenReturn(updatedAt);
+        
+        // When & Then
+        mockMvc.perform(get("/api/content/1")
+                .header("If-None-Match", ContentEtags.of(1L, updatedAt)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().string(""));
+        
+        verify(contentService, never()).getContentById(any(), any());
+    }
+    
+    @Test
+    void suggestTitles_ShouldReturnSuggestions() throws Exception {
+        // Given
+        when(titleSuggester.suggest("matr", 5)).thenReturn(List.of(
+            new SuggestionDTO(1L, "The Matrix", ContentType.MOVIE, 1999, 8.7, false)));
+        
+        // When & Then
+        mockMvc.perform(get("/api/content/suggest").param("q", "matr").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].title").value("The Matrix"))
+                .andExpect(jsonPath("$[0].fuzzy").value(false));
     }
     
     @Test
@@ -130,6 +274,74 @@ class ContentControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
     }
     
+    @Test
+    void patchContent_ShouldRespondAfterTheBufferedWriteCommits() throws Exception {
+        // Given
+        ContentPatchDTO patch = ContentPatchDTO.builder().rating(9.1).build();
+        when(contentWriteBuffer.submit(1L, patch)).thenReturn(CompletableFuture.completedFuture(createMockResponse()));
+        
+        // When
+        MvcResult result = mockMvc.perform(patch("/api/content/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\": 9.1}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+    
+    @Test
+    void patchContent_WithBufferedDurability_ShouldReturnAccepted() throws Exception {
+        // Given
+        when(contentWriteBuffer.submit(eq(1L), any())).thenReturn(new CompletableFuture<>());
+        
+        // When
+        MvcResult result = mockMvc.perform(patch("/api/content/1")
+                .param("durability", "buffered")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"totalEpisodes\": 12}"))
+                .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+    }
+    
+    @Test
+    void exportContent_ShouldStreamWithFiltersFromQueryParams() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("{\"id\":1}\n".getBytes());
+            return null;
+        }).when(contentExportService).export(any(), eq(ExportFormat.NDJSON), any());
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/content/export")
+                .param("genre", "Sci-Fi")
+                .param("contentType", "MOVIE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+        verify(contentExportService).export(
+            eq(SearchRequestDTO.builder().genre("Sci-Fi").contentType(ContentType.MOVIE).build()),
+            eq(ExportFormat.NDJSON),
+            any());
+    }
+    
+    @Test
+    void exportContent_WhenFormatUnknown_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/content/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void deleteContent_ShouldReturnNoContent() throws Exception {
         // When & Then
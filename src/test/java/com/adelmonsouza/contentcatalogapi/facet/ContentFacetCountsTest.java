@@ -0,0 +1,141 @@
+package com.adelmonsouza.contentcatalogapi.facet;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.FacetCountsDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.search.ContentSearchIndex;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentFacetCountsTest {
+
+    @Mock
+    private ContentStore contentStore;
+
+    @Mock
+    private ContentSearchIndex contentSearchIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContentFacetCounts facetCounts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        facetCounts = new ContentFacetCounts(contentStore, contentSearchIndex, meterRegistry);
+        when(contentStore.countGroupedBy(isNull(), eq(ContentField.CONTENT_TYPE)))
+            .thenReturn(Map.of(ContentType.MOVIE, 2L));
+        when(contentStore.countGroupedBy(isNull(), eq(ContentField.GENRE)))
+            .thenReturn(Map.of("Sci-Fi", 2L));
+        when(contentStore.countGroupedBy(isNull(), eq(ContentField.RELEASE_YEAR)))
+            .thenReturn(Map.of(1999, 1L, 2003, 1L));
+        facetCounts.reconcile();
+    }
+
+    @Test
+    void onContentChanged_ShouldAdjustCountsIncrementally() {
+        // Given
+        ContentResponseDTO dark = content(3L, ContentType.SERIES, "Sci-Fi", 2017);
+        ContentResponseDTO matrix = content(1L, ContentType.MOVIE, "Sci-Fi", 1999);
+
+        // When
+        facetCounts.onContentChanged(ContentChangedEvent.created(dark));
+        facetCounts.onContentChanged(ContentChangedEvent.updated(matrix, content(1L, ContentType.MOVIE, "Action", 1999)));
+        facetCounts.onContentChanged(ContentChangedEvent.deleted(3L, dark));
+        FacetCountsDTO counts = facetCounts.counts(null);
+
+        // Then
+        assertEquals(2, counts.total());
+        assertEquals(Map.of(ContentType.MOVIE, 2L), counts.contentType());
+        assertEquals(Map.of("Sci-Fi", 1L, "Action", 1L), counts.genre());
+        assertEquals(Map.of(1999, 1L, 2003, 1L), counts.releaseYear());
+        verify(contentStore, times(3)).countGroupedBy(isNull(), any());
+    }
+
+    @Test
+    void reconcile_WhenCountsDrifted_ShouldRestoreDatabaseCounts() {
+        // Given
+        facetCounts.onContentChanged(ContentChangedEvent.created(content(9L, ContentType.PODCAST, "Talk", 2020)));
+
+        // When
+        facetCounts.reconcile();
+
+        // Then
+        assertEquals(Map.of(ContentType.MOVIE, 2L), facetCounts.counts(null).contentType());
+        assertEquals(3.0, meterRegistry.get("catalog.facets.reconcile.drift").counter().count());
+    }
+
+    @Test
+    void counts_WhileFirstReconcileRuns_ShouldQueryInsteadOfReconcilingAgain() throws Exception {
+        // Given
+        ContentFacetCounts loading = new ContentFacetCounts(contentStore, contentSearchIndex, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger typeQueries = new AtomicInteger();
+        when(contentStore.countGroupedBy(isNull(), eq(ContentField.CONTENT_TYPE))).thenAnswer(invocation -> {
+            if (typeQueries.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(1, TimeUnit.SECONDS);
+            }
+            return Map.of(ContentType.MOVIE, 2L);
+        });
+        Thread first = new Thread(() -> loading.counts(null));
+        first.start();
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        FacetCountsDTO counts = loading.counts(null);
+        release.countDown();
+        first.join();
+
+        // Then
+        assertEquals(2, counts.total());
+        assertEquals(2, typeQueries.get());
+        assertEquals(Map.of("Sci-Fi", 2L), loading.counts(null).genre());
+        assertEquals(2, typeQueries.get());
+    }
+
+    @Test
+    void counts_WithFilterAndIndexAvailable_ShouldUseIndex() {
+        // Given
+        SearchRequestDTO filter = SearchRequestDTO.builder().minRating(8.0).build();
+        FacetCountsDTO fromIndex = new FacetCountsDTO(1, Map.of(ContentType.MOVIE, 1L), Map.of(), Map.of());
+        when(contentSearchIndex.isAvailable()).thenReturn(true);
+        when(contentSearchIndex.facets(filter)).thenReturn(fromIndex);
+
+        // When
+        FacetCountsDTO counts = facetCounts.counts(filter);
+
+        // Then
+        assertSame(fromIndex, counts);
+        verify(contentStore, never()).countGroupedBy(eq(filter), any());
+    }
+
+    private ContentResponseDTO content(Long id, ContentType type, String genre, Integer year) {
+        return ContentResponseDTO.builder()
+            .id(id)
+            .contentType(type)
+            .genre(genre)
+            .releaseYear(year)
+            .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.adelmonsouza.contentcatalogapi.leaderboard;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopRatedLeaderboardTest {
+
+    @Mock
+    private ContentStore contentStore;
+
+    private TopRatedLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        // max-limit 2 => cada escopo guarda até 4
+        leaderboard = new TopRatedLeaderboard(contentStore, new SimpleMeterRegistry(), 2, 10);
+    }
+
+    @Test
+    void top_WhenScopeFitsInMemory_ShouldApplyWritesWithoutQuerying() {
+        // Given
+        givenRows(content(1L, 8.7), content(2L, 7.5), content(3L, 6.0));
+        leaderboard.top(null, null, 2);
+
+        // When
+        leaderboard.onContentChanged(ContentChangedEvent.created(content(4L, 9.1)));
+        leaderboard.onContentChanged(ContentChangedEvent.updated(content(1L, 8.7), content(1L, 5.0)));
+        List<ContentResponseDTO> top = leaderboard.top(null, null, 2);
+
+        // Then
+        assertEquals(List.of(4L, 2L), ids(top));
+        verify(contentStore, times(1)).findPage(any(), eq(ContentField.ALL), any());
+    }
+
+    @Test
+    void top_WhenDeletesShrinkTruncatedScope_ShouldRefillFromDatabase() {
+        // Given
+        givenRows(content(1L, 9.0), content(2L, 8.0), content(3L, 7.0), content(4L, 6.0));
+        leaderboard.top(ContentType.MOVIE, null, 2);
+        leaderboard.onContentChanged(ContentChangedEvent.deleted(1L, content(1L, 9.0)));
+        leaderboard.onContentChanged(ContentChangedEvent.deleted(2L, content(2L, 8.0)));
+        leaderboard.onContentChanged(ContentChangedEvent.deleted(3L, content(3L, 7.0)));
+        givenRows(content(4L, 6.0), content(5L, 5.5));
+
+        // When
+        List<ContentResponseDTO> top = leaderboard.top(ContentType.MOVIE, null, 2);
+
+        // Then
+        assertEquals(List.of(4L, 5L), ids(top));
+        verify(contentStore, times(2)).findPage(any(), eq(ContentField.ALL), any());
+    }
+
+    @Test
+    void onContentChanged_WhenBelowCutOfTruncatedScope_ShouldIgnore() {
+        // Given
+        givenRows(content(1L, 9.0), content(2L, 8.0), content(3L, 7.0), content(4L, 6.0));
+        leaderboard.top(null, null, 2);
+
+        // When
+        leaderboard.onContentChanged(ContentChangedEvent.created(content(9L, 1.0)));
+        leaderboard.onContentChanged(ContentChangedEvent.deleted(1L, content(1L, 9.0)));
+        leaderboard.onContentChanged(ContentChangedEvent.deleted(2L, content(2L, 8.0)));
+
+        // Then
+        assertEquals(List.of(3L, 4L), ids(leaderboard.top(null, null, 2)));
+        verify(contentStore, times(1)).findPage(any(), eq(ContentField.ALL), any());
+    }
+
+    private void givenRows(ContentResponseDTO... rows) {
+        when(contentStore.findPage(any(), eq(ContentField.ALL), any()))
+            .thenReturn(new PageImpl<>(List.of(rows)));
+    }
+
+    private static List<Long> ids(List<ContentResponseDTO> contents) {
+        return contents.stream().map(ContentResponseDTO::id).toList();
+    }
+
+    private static ContentResponseDTO content(Long id, double rating) {
+        return ContentResponseDTO.builder()
+            .id(id)
+            .title("Content " + id)
+            .contentType(ContentType.MOVIE)
+            .genre("Drama")
+            .rating(rating)
+            .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.adelmonsouza.contentcatalogapi.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrações do Flyway contra um PostgreSQL de verdade (requer Docker). Os planos rodam com
+ * enable_seqscan e enable_sort desligados: com poucos dados o planner prefere varrer e ordenar, e o
+ * que importa aqui é se cada consulta da busca tem um índice que a atende, já na ordem pedida.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ContentMigrationsContainersTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    // Banco criado pelo ddl-auto da primeira versão do projeto: content com IDENTITY e nada mais
+    @Container
+    private static final PostgreSQLContainer<?> legacy = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() {
+        flyway(postgres).migrate();
+
+        // Uma conexão só: o SET vale para todas as consultas do teste
+        jdbc = new JdbcTemplate(new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true));
+        jdbc.update("""
+            INSERT INTO content (id, title, content_type, genre, release_year, rating, created_at, updated_at)
+            SELECT i, 'Title ' || i, (ARRAY['MOVIE', 'SERIES', 'MUSIC', 'PODCAST'])[1 + i % 4],
+                   (ARRAY['Drama', 'Comedy', 'Sci-Fi'])[1 + i % 3], 1950 + i % 75, (i % 101) / 10.0,
+                   now(), now()
+            FROM generate_series(1, 5000) AS i
+            """);
+        // VACUUM marca as páginas como visíveis, condição para index-only scan
+        jdbc.execute("VACUUM ANALYZE content");
+        jdbc.execute("SET enable_seqscan = off");
+        jdbc.execute("SET enable_sort = off");
+    }
+
+    @Test
+    void migrate_ShouldReachLatestVersionWithSearchIndexes() {
+        List<String> indexes = jdbc.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE tablename = 'content'", String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+            "idx_content_title_trgm", "idx_content_title", "idx_content_movie_rating", "idx_content_podcast_rating",
+            "idx_content_genre_rating", "idx_content_release_year", "idx_content_rating_id", "idx_content_updated_at_id")));
+        assertFalse(indexes.contains("idx_content_genre"));
+        assertEquals(0, jdbc.queryForObject(
+            "SELECT count(*) FROM pg_index WHERE NOT indisvalid", Integer.class));
+    }
+
+    @Test
+    void titleSubstringSearch_ShouldUseTrigramIndex() {
+        assertTrue(plan("SELECT id FROM content WHERE lower(title) LIKE '%tle 42%'")
+            .contains("idx_content_title_trgm"));
+    }
+
+    @Test
+    void typeAndRatingSearch_ShouldUsePartialIndexInRatingOrder() {
+        String plan = plan("""
+            SELECT id, title FROM content
+            WHERE content_type = 'SERIES' AND genre = 'Drama' AND rating >= 7.0
+            ORDER BY rating DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY
+            """);
+
+        assertTrue(plan.contains("idx_content_series_rating") || plan.contains("idx_content_genre_rating"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    void searchCount_ShouldBeIndexOnly() {
+        assertTrue(plan("SELECT count(*) FROM content WHERE content_type = 'MOVIE' AND release_year >= 1990")
+            .contains("Index Only Scan using idx_content_movie_rating"));
+    }
+
+    @Test
+    void migrate_OnLegacyIdentitySchema_ShouldCreateWhatIsMissing() {
+        // Given
+        JdbcTemplate legacyJdbc = new JdbcTemplate(new SingleConnectionDataSource(
+            legacy.getJdbcUrl(), legacy.getUsername(), legacy.getPassword(), true));
+        legacyJdbc.execute("""
+            CREATE TABLE content (
+                id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                title varchar(255) NOT NULL, description varchar(1000), content_type varchar(255) NOT NULL,
+                genre varchar(100) NOT NULL, release_year integer NOT NULL, rating float(53),
+                duration_minutes integer, total_episodes integer,
+                created_at timestamp(6) NOT NULL, updated_at timestamp(6) NOT NULL)
+            """);
+        legacyJdbc.execute("CREATE INDEX idx_content_genre ON content (genre)");
+        legacyJdbc.update("""
+            INSERT INTO content (title, content_type, genre, release_year, created_at, updated_at)
+            SELECT 'Title ' || i, 'MOVIE', 'Drama', 2000, now(), now() FROM generate_series(1, 120) AS i
+            """);
+
+        // When
+        flyway(legacy).migrate();
+
+        // Then
+        List<String> tables = legacyJdbc.queryForList(
+            "SELECT tablename FROM pg_tables WHERE schemaname = 'public'", String.class);
+        assertTrue(tables.contains("content_change"));
+        assertEquals(2, legacyJdbc.queryForObject(
+            "SELECT count(*) FROM pg_sequences WHERE sequencename IN ('content_seq', 'content_change_seq')", Integer.class));
+        assertEquals(0, legacyJdbc.queryForObject(
+            "SELECT count(*) FROM pg_indexes WHERE indexname = 'idx_content_genre'", Integer.class));
+        // Ids já usados pelo IDENTITY não voltam pela sequence
+        assertTrue(legacyJdbc.queryForObject("SELECT nextval('content_seq')", Long.class) > 120);
+    }
+
+    private static Flyway flyway(PostgreSQLContainer<?> container) {
+        return Flyway.configure()
+            .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+            .locations("classpath:db/migration")
+            .baselineOnMigrate(true)
+            .baselineVersion("0")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load();
+    }
+
+    private static String plan(String sql) {
+        return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
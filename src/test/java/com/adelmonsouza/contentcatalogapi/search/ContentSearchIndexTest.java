@@ -0,0 +1,222 @@
+package com.adelmonsouza.contentcatalogapi.search;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.FacetCountsDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentSearchIndexTest {
+
+    private ContentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ContentSearchIndex(null, true);
+        index.index(content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 1999, 8.7));
+        index.index(content(2L, "The Matrix Reloaded", ContentType.MOVIE, "Sci-Fi", 2003, 7.2));
+        index.index(content(3L, "Dark", ContentType.SERIES, "Sci-Fi", 2017, 8.8));
+        index.index(content(4L, "Inception", ContentType.MOVIE, "Thriller", 2010, null));
+    }
+
+    @Test
+    void search_ByTitle_ShouldMatchSubstringLikeJpa() {
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().title("rix").build(), PageRequest.of(0, 20));
+        ContentSearchIndex.SearchHits acrossWords = index.search(
+            SearchRequestDTO.builder().title("TRIX RE").build(), PageRequest.of(0, 20));
+        ContentSearchIndex.SearchHits shortPart = index.search(
+            SearchRequestDTO.builder().title("k").build(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(2, hits.total());
+        assertEquals(List.of(1L, 2L), hits.ids());
+        assertEquals(List.of(2L), acrossWords.ids());
+        assertEquals(List.of(3L), shortPart.ids());
+    }
+
+    @Test
+    void search_ByPunctuationOnlyTitle_ShouldNotMatchEveryRow() {
+        // Given
+        index.index(content(5L, "Mission: Impossible", ContentType.MOVIE, "Action", 1996, 7.1));
+
+        // When
+        ContentSearchIndex.SearchHits none = index.search(
+            SearchRequestDTO.builder().title("!!!").build(), PageRequest.of(0, 20));
+        ContentSearchIndex.SearchHits colon = index.search(
+            SearchRequestDTO.builder().title(":").build(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(0, none.total());
+        assertEquals(List.of(5L), colon.ids());
+    }
+
+    @Test
+    void search_ByDescription_ShouldMatchSubstring() {
+        // Given
+        index.index(content(5L, "Arrival", "A linguist decodes an alien language", ContentType.MOVIE, "Sci-Fi", 2016, 7.9));
+
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().description("ALIEN LANG").build(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(List.of(5L), hits.ids());
+    }
+
+    @Test
+    void search_WithFacetsAndRanges_ShouldIntersectPostings() {
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder()
+                .contentType(ContentType.MOVIE)
+                .genre("Sci-Fi")
+                .minYear(2000)
+                .minRating(7.0)
+                .build(),
+            PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(List.of(2L), hits.ids());
+    }
+
+    @Test
+    void search_SortedByRatingDesc_ShouldPlaceNullsFirstLikePostgres() {
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().build(),
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "rating")));
+
+        // Then
+        assertEquals(List.of(4L, 3L, 1L, 2L), hits.ids());
+    }
+
+    @Test
+    void search_ShouldPaginateAndReportTotal() {
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().build(), PageRequest.of(1, 3));
+
+        // Then
+        assertEquals(4, hits.total());
+        assertEquals(List.of(4L), hits.ids());
+    }
+
+    @Test
+    void index_WhenContentUpdated_ShouldReplaceOldPostings() {
+        // Given
+        index.index(content(1L, "Matrix Resurrections", ContentType.MOVIE, "Action", 2021, 5.7));
+
+        // When
+        ContentSearchIndex.SearchHits sciFi = index.search(
+            SearchRequestDTO.builder().genre("Sci-Fi").build(), PageRequest.of(0, 20));
+        ContentSearchIndex.SearchHits action = index.search(
+            SearchRequestDTO.builder().genre("Action").title("resurrections").build(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(List.of(2L, 3L), sciFi.ids());
+        assertEquals(List.of(1L), action.ids());
+    }
+
+    @Test
+    void remove_ShouldExcludeContentFromResults() {
+        // Given
+        index.remove(3L);
+
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().genre("Sci-Fi").build(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(List.of(1L, 2L), hits.ids());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_AfterRandomWrites_ShouldKeepColumnsSorted() {
+        // Given
+        Random random = new Random(42);
+        Map<Long, Double> ratings = new HashMap<>(Map.of(1L, 8.7, 2L, 7.2, 3L, 8.8));
+        ratings.put(4L, null);
+        // Antes da carga, um id removido não volta: inserções usam ids novos, atualizações ids existentes
+        long nextId = 5;
+        for (int i = 0; i < 2000; i++) {
+            List<Long> existing = List.copyOf(ratings.keySet());
+            int operation = random.nextInt(4);
+            if (operation == 0 && !existing.isEmpty()) {
+                long id = existing.get(random.nextInt(existing.size()));
+                index.remove(id);
+                ratings.remove(id);
+            } else {
+                long id = operation == 1 || existing.isEmpty() ? nextId++ : existing.get(random.nextInt(existing.size()));
+                Double rating = random.nextInt(10) == 0 ? null : random.nextInt(20) / 2.0;
+                index.index(content(id, "Title " + id, ContentType.MOVIE, "Drama", 2000, rating));
+                ratings.put(id, rating);
+            }
+        }
+        // ASC com nulos por último e desempate pela ordem interna; aqui só a sequência de notas importa
+        List<Double> expected = ratings.values().stream()
+            .sorted(Comparator.nullsLast(Comparator.<Double>naturalOrder()))
+            .toList();
+
+        // When
+        ContentSearchIndex.SearchHits hits = index.search(
+            SearchRequestDTO.builder().build(), PageRequest.of(0, 1000, Sort.by("rating")));
+        ContentSearchIndex.SearchHits rated = index.search(
+            SearchRequestDTO.builder().minRating(5.0).build(), PageRequest.of(0, 100));
+
+        // Then
+        assertEquals(expected, hits.ids().stream().map(ratings::get).toList());
+        assertEquals(ratings.values().stream().filter(r -> r != null && r >= 5.0).count(), rated.total());
+    }
+
+    @Test
+    void facets_ShouldCountMatchingDocsPerValue() {
+        // When
+        FacetCountsDTO facets = index.facets(SearchRequestDTO.builder().genre("Sci-Fi").build());
+
+        // Then
+        assertEquals(3, facets.total());
+        assertEquals(Map.of(ContentType.MOVIE, 2L, ContentType.SERIES, 1L), facets.contentType());
+        assertEquals(Map.of("Sci-Fi", 3L), facets.genre());
+        assertEquals(Map.of(1999, 1L, 2003, 1L, 2017, 1L), facets.releaseYear());
+    }
+
+    @Test
+    void canServe_WhenSortNotIndexed_ShouldReturnFalse() {
+        assertFalse(index.canServe(PageRequest.of(0, 20, Sort.by("title"))));
+    }
+
+    private ContentResponseDTO content(Long id, String title, ContentType type, String genre,
+                                       Integer year, Double rating) {
+        return content(id, title, "Description", type, genre, year, rating);
+    }
+
+    private ContentResponseDTO content(Long id, String title, String description, ContentType type, String genre,
+                                       Integer year, Double rating) {
+        return ContentResponseDTO.builder()
+            .id(id)
+            .title(title)
+            .description(description)
+            .contentType(type)
+            .genre(genre)
+            .releaseYear(year)
+            .rating(rating)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
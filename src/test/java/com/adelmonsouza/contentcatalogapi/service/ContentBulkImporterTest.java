@@ -0,0 +1,135 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.BulkCreateResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.BulkItemResultDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentBulkImporterTest {
+
+    private static final String VALID = """
+        {"title":"The Matrix","description":"A hacker","contentType":"MOVIE","genre":"Sci-Fi","releaseYear":1999,"rating":8.7}""";
+    private static final String MISSING_TITLE = """
+        {"description":"No title","contentType":"MOVIE","genre":"Sci-Fi","releaseYear":1999}""";
+    private static final String BAD_ENUM = """
+        {"title":"X","description":"Y","contentType":"GAME","genre":"Sci-Fi","releaseYear":1999}""";
+
+    @Mock
+    private ContentService contentService;
+
+    private ContentBulkImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new ContentBulkImporter(
+            contentService,
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            2,
+            2
+        );
+    }
+
+    @Test
+    void importContent_FromNdjson_ShouldInsertInChunksAndReportFailures() throws Exception {
+        // Given
+        AtomicLong ids = new AtomicLong();
+        when(contentService.createContentBatch(anyList())).thenAnswer(invocation -> {
+            List<ContentCreateDTO> chunk = invocation.getArgument(0);
+            return chunk.stream()
+                .map(dto -> ContentResponseDTO.builder().id(ids.incrementAndGet()).title(dto.title()).build())
+                .toList();
+        });
+        String body = String.join("\n", VALID, MISSING_TITLE, VALID, BAD_ENUM, VALID);
+
+        // When
+        BulkCreateResponseDTO result = importer.importContent(stream(body));
+
+        // Then
+        assertEquals(5, result.received());
+        assertEquals(3, result.created());
+        assertEquals(2, result.failed());
+        assertEquals(2, result.failures().size());
+        assertEquals(1, result.failures().get(0).index());
+        assertTrue(result.failures().get(0).errors().containsKey("title"));
+        assertEquals(3, result.failures().get(1).index());
+        assertTrue(result.failures().get(1).errors().containsKey("record"));
+        verify(contentService, times(2)).createContentBatch(anyList());
+    }
+
+    @Test
+    void importContent_FromJsonArray_ShouldReadEachElement() throws Exception {
+        // Given
+        when(contentService.createContentBatch(anyList())).thenAnswer(invocation -> {
+            List<ContentCreateDTO> chunk = invocation.getArgument(0);
+            return chunk.stream().map(dto -> ContentResponseDTO.builder().id(7L).build()).toList();
+        });
+
+        // When
+        BulkCreateResponseDTO result = importer.importContent(stream("[" + VALID + "]"));
+
+        // Then
+        assertEquals(1, result.received());
+        assertEquals(1, result.created());
+    }
+
+    @Test
+    void importContent_WhenChunkInsertFails_ShouldRetryRowByRowAndFailOnlyTheBadRecord() throws Exception {
+        // Given
+        when(contentService.createContentBatch(anyList())).thenAnswer(invocation -> {
+            List<ContentCreateDTO> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(dto -> dto.title().equals("Duplicate"))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            return chunk.stream().map(dto -> ContentResponseDTO.builder().id(7L).build()).toList();
+        });
+        String body = String.join("\n", VALID, VALID.replace("The Matrix", "Duplicate"), VALID);
+
+        // When
+        BulkCreateResponseDTO result = importer.importContent(stream(body));
+
+        // Then
+        assertEquals(2, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(1, result.failures().get(0).index());
+        assertTrue(result.failures().get(0).errors().get("record").contains("duplicate key"));
+        // Chunk [0, 1] falha, refeito em [0] e [1]; depois o chunk [2]
+        verify(contentService, times(4)).createContentBatch(anyList());
+    }
+
+    @Test
+    void importContent_WithManyFailures_ShouldKeepDetailsOfTheLowestIndexesOnly() throws Exception {
+        // Given
+        String body = String.join("\n", MISSING_TITLE, BAD_ENUM, MISSING_TITLE, BAD_ENUM);
+
+        // When
+        BulkCreateResponseDTO result = importer.importContent(stream(body));
+
+        // Then
+        assertEquals(4, result.failed());
+        assertEquals(2, result.failuresTruncated());
+        assertEquals(List.of(0, 1), result.failures().stream().map(BulkItemResultDTO::index).toList());
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
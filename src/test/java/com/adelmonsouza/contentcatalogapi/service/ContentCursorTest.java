@@ -0,0 +1,56 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetSort;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripSortKeyAndId() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000);
+        Content last = Content.builder().id(42L).rating(8.7).updatedAt(updatedAt).build();
+
+        // When
+        KeysetPosition byRating = ContentCursor.decode(
+            ContentCursor.encode(KeysetSort.RATING, Sort.Direction.DESC, last));
+        KeysetPosition byUpdatedAt = ContentCursor.decode(
+            ContentCursor.encode(KeysetSort.UPDATED_AT, Sort.Direction.ASC, last));
+
+        // Then
+        assertEquals(new KeysetPosition(KeysetSort.RATING, Sort.Direction.DESC, 8.7, 42L), byRating);
+        assertEquals(updatedAt, byUpdatedAt.lastValue());
+    }
+
+    @Test
+    void encode_WhenSortValueIsNull_ShouldDecodeAsNull() {
+        // Given
+        Content last = Content.builder().id(7L).rating(null).build();
+
+        // When
+        KeysetPosition position = ContentCursor.decode(
+            ContentCursor.encode(KeysetSort.RATING, Sort.Direction.ASC, last));
+
+        // Then
+        assertNull(position.lastValue());
+        assertEquals(7L, position.lastId());
+    }
+
+    @Test
+    void decode_WhenTokenIsMalformed_ShouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class, () -> ContentCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void firstPage_WhenSortIsNotSupported_ShouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class, () -> ContentCursor.firstPage(Sort.by("title")));
+    }
+}
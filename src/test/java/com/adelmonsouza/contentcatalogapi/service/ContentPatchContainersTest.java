@@ -0,0 +1,117 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * patchContent contra um PostgreSQL de verdade (requer Docker), com um PUT ainda aberto na mesma linha.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ContentPatchContainersTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ContentService contentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void patchContent_WhenPutCommitsWhilePatchWaits_ShouldReturnPutTitleWithPatchedRating() throws Exception {
+        // Given
+        Long id = contentService.createContent(dto("The Matrix", "Sci-Fi")).id();
+        CountDownLatch putFlushed = new CountDownLatch(1);
+        CountDownLatch commitPut = new CountDownLatch(1);
+        Thread put = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            contentService.updateContent(id, dto("The Matrix Reloaded", "Action"));
+            putFlushed.countDown();
+            await(commitPut);
+        }));
+        put.start();
+        assertTrue(putFlushed.await(10, TimeUnit.SECONDS));
+
+        // When
+        AtomicReference<Map<Long, ContentResponseDTO>> patched = new AtomicReference<>();
+        Thread patch = new Thread(() ->
+            patched.set(contentService.patchContent(Map.of(id, ContentPatchDTO.builder().rating(9.5).build()))));
+        patch.start();
+        awaitLockWait();
+        commitPut.countDown();
+        put.join();
+        patch.join();
+
+        // Then
+        ContentResponseDTO current = patched.get().get(id);
+        assertEquals("The Matrix Reloaded", current.title());
+        assertEquals("Action", current.genre());
+        assertEquals(9.5, current.rating());
+        assertEquals(current, contentService.getContentById(id));
+    }
+
+    // O PATCH fica parado no lock da linha que o PUT ainda não confirmou
+    private void awaitLockWait() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        fail("PATCH never waited for the PUT row lock");
+    }
+
+    private static ContentCreateDTO dto(String title, String genre) {
+        return ContentCreateDTO.builder()
+            .title(title)
+            .description("A hacker learns about the true nature of reality.")
+            .contentType(ContentType.MOVIE)
+            .genre(genre)
+            .releaseYear(1999)
+            .rating(8.7)
+            .durationMinutes(136)
+            .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
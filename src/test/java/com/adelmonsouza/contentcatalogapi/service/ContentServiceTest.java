@@ -1,28 +1,59 @@
 package com.adelmonsouza.contentcatalogapi.service;
 
+import com.adelmonsouza.contentcatalogapi.cache.ContentCache;
+import com.adelmonsouza.contentcatalogapi.cache.SearchGenerations;
+import com.adelmonsouza.contentcatalogapi.cache.SearchResultCache;
+import com.adelmonsouza.contentcatalogapi.dto.BatchGetResponseDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentCreateDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentMapper;
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
 import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
 import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.exception.InvalidRequestException;
 import com.adelmonsouza.contentcatalogapi.model.Content;
 import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
 import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetSort;
+import com.adelmonsouza.contentcatalogapi.search.ContentSearchIndex;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,10 +62,37 @@ class ContentServiceTest {
     @Mock
     private ContentRepository contentRepository;
     
+    @Mock
+    private ContentStore contentStore;
+    
+    @Mock
+    private ContentSearchIndex contentSearchIndex;
+    
+    @Mock
+    private ContentCache contentCache;
+    
+    private final SearchGenerations searchGenerations = new SearchGenerations();
+    
+    @Spy
+    private SearchResultCache searchResultCache =
+        new SearchResultCache(new SimpleMeterRegistry(), searchGenerations, true, 1000, Duration.ofMinutes(5),
+            Duration.ofSeconds(5));
+    
+    @Spy
+    private RequestCoalescer requestCoalescer =
+        new RequestCoalescer(new SimpleMeterRegistry(), searchGenerations, true, Duration.ofSeconds(1));
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
     @InjectMocks
     private ContentService contentService;
     
     private Content content;
+    private ContentResponseDTO contentResponse;
     private ContentCreateDTO createDTO;
     
     @BeforeEach
@@ -51,6 +109,7 @@ class ContentServiceTest {
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
+        contentResponse = ContentMapper.toResponseDTO(content);
         
         createDTO = ContentCreateDTO.builder()
             .title("The Matrix")
@@ -76,14 +135,15 @@ class ContentServiceTest {
         assertEquals("The Matrix", result.title());
         assertEquals(ContentType.MOVIE, result.contentType());
         verify(contentRepository, times(1)).save(any(Content.class));
+        verify(eventPublisher, times(1)).publishEvent(any(ContentChangedEvent.class));
     }
     
     @Test
     void getAllContent_ShouldReturnPageOfContentResponseDTO() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Content> contentPage = new PageImpl<>(List.of(content), pageable, 1);
-        when(contentRepository.findAll(pageable)).thenReturn(contentPage);
+        Page<ContentResponseDTO> contentPage = new PageImpl<>(List.of(contentResponse), pageable, 1);
+        when(contentStore.findPage(null, ContentField.ALL, pageable)).thenReturn(contentPage);
         
         // When
         Page<ContentResponseDTO> result = contentService.getAllContent(pageable);
@@ -92,13 +152,28 @@ class ContentServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals("The Matrix", result.getContent().get(0).title());
-        verify(contentRepository, times(1)).findAll(pageable);
+        verify(contentStore, times(1)).findPage(null, ContentField.ALL, pageable);
+    }
+    
+    @Test
+    void getAllContent_WithFields_ShouldAlsoQueryUpdatedAt() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        Set<ContentField> queried = Set.of(ContentField.ID, ContentField.TITLE, ContentField.UPDATED_AT);
+        when(contentStore.findPage(null, queried, pageable)).thenReturn(Page.empty(pageable));
+        
+        // When
+        contentService.getAllContent(pageable, ContentField.parse("title"));
+        
+        // Then
+        verify(contentStore).findPage(null, queried, pageable);
     }
     
     @Test
     void getContentById_WhenContentExists_ShouldReturnContentResponseDTO() {
         // Given
-        when(contentRepository.findById(1L)).thenReturn(Optional.of(content));
+        passThroughCache();
+        when(contentStore.findResponseById(1L, ContentField.ALL)).thenReturn(Optional.of(contentResponse));
         
         // When
         ContentResponseDTO result = contentService.getContentById(1L);
@@ -106,19 +181,21 @@ class ContentServiceTest {
         // Then
         assertNotNull(result);
         assertEquals("The Matrix", result.title());
-        verify(contentRepository, times(1)).findById(1L);
+        verify(contentStore, times(1)).findResponseById(1L, ContentField.ALL);
+        verify(contentRepository, never()).findById(any());
     }
     
     @Test
     void getContentById_WhenContentNotFound_ShouldThrowException() {
         // Given
-        when(contentRepository.findById(999L)).thenReturn(Optional.empty());
+        passThroughCache();
+        when(contentStore.findResponseById(999L, ContentField.ALL)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(ContentNotFoundException.class, () -> 
             contentService.getContentById(999L)
         );
-        verify(contentRepository, times(1)).findById(999L);
+        verify(contentStore, times(1)).findResponseById(999L, ContentField.ALL);
     }
     
     @Test
@@ -135,7 +212,7 @@ class ContentServiceTest {
             .build();
         
         when(contentRepository.findById(1L)).thenReturn(Optional.of(content));
-        when(contentRepository.save(any(Content.class))).thenReturn(content);
+        when(contentRepository.saveAndFlush(any(Content.class))).thenReturn(content);
         
         // When
         ContentResponseDTO result = contentService.updateContent(1L, updateDTO);
@@ -143,7 +220,7 @@ class ContentServiceTest {
         // Then
         assertNotNull(result);
         verify(contentRepository, times(1)).findById(1L);
-        verify(contentRepository, times(1)).save(any(Content.class));
+        verify(contentRepository, times(1)).saveAndFlush(any(Content.class));
     }
     
     @Test
@@ -158,30 +235,188 @@ class ContentServiceTest {
         verify(contentRepository, never()).save(any());
     }
     
+    @Test
+    void patchContent_ShouldUpdateChangedRowsAndPublishOnlyTheirEvents() {
+        // Given
+        ContentResponseDTO unchanged = ContentResponseDTO.builder().id(2L).title("Dark").rating(8.8).build();
+        when(contentRepository.findResponsesByIds(Set.of(1L, 2L, 3L), ContentField.ALL))
+            .thenReturn(List.of(contentResponse, unchanged));
+        Map<Long, ContentPatchDTO> patches = Map.of(
+            1L, ContentPatchDTO.builder().rating(9.1).build(),
+            2L, ContentPatchDTO.builder().rating(8.8).build(),
+            3L, ContentPatchDTO.builder().rating(5.0).build());
+        
+        // When
+        Map<Long, ContentResponseDTO> result = contentService.patchContent(patches);
+        
+        // Then
+        InOrder order = inOrder(jdbcTemplate, contentRepository);
+        order.verify(jdbcTemplate).queryForList(contains("FOR UPDATE"), eq(Long.class), any(Object[].class));
+        order.verify(contentRepository).findResponsesByIds(Set.of(1L, 2L, 3L), ContentField.ALL);
+        assertEquals(Set.of(1L, 2L), result.keySet());
+        assertEquals(9.1, result.get(1L).rating());
+        assertEquals(136, result.get(1L).durationMinutes());
+        assertEquals("The Matrix", result.get(1L).title());
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE content SET rating = ?, duration_minutes = ?"), rows.capture());
+        assertArrayEquals(new Object[] {9.1, 136, null, result.get(1L).updatedAt(), 1L}, rows.getValue().get(0));
+        assertEquals(1, rows.getValue().size());
+        verify(contentRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(ContentChangedEvent.updated(contentResponse, result.get(1L)));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+    
     @Test
     void deleteContent_WhenContentExists_ShouldDeleteSuccessfully() {
         // Given
-        when(contentRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(contentRepository).deleteById(1L);
+        when(contentRepository.findById(1L)).thenReturn(Optional.of(content));
         
         // When
         contentService.deleteContent(1L);
         
         // Then
-        verify(contentRepository, times(1)).existsById(1L);
-        verify(contentRepository, times(1)).deleteById(1L);
+        verify(contentRepository, times(1)).delete(content);
+        verify(eventPublisher, times(1)).publishEvent(ContentChangedEvent.deleted(1L, contentResponse));
     }
     
     @Test
     void deleteContent_WhenContentNotFound_ShouldThrowException() {
         // Given
-        when(contentRepository.existsById(999L)).thenReturn(false);
+        when(contentRepository.findById(999L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(ContentNotFoundException.class, () -> 
             contentService.deleteContent(999L)
         );
-        verify(contentRepository, never()).deleteById(any());
+        verify(contentRepository, never()).delete(any());
+    }
+    
+    @Test
+    void searchContent_WhenIndexUnavailable_ShouldUseRepositoryQuery() {
+        // Given
+        SearchRequestDTO request = SearchRequestDTO.builder().title("Matrix").build();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(contentSearchIndex.canServe(pageable)).thenReturn(false);
+        when(contentStore.findPage(request, ContentField.ALL, pageable))
+            .thenReturn(new PageImpl<>(List.of(contentResponse), pageable, 1));
+        
+        // When
+        Page<ContentResponseDTO> result = contentService.searchContent(request, pageable);
+        
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(contentSearchIndex, never()).search(any(), any());
+    }
+    
+    @Test
+    void searchContent_WhenIndexAvailable_ShouldLoadPageByIds() {
+        // Given
+        SearchRequestDTO request = SearchRequestDTO.builder().title("Matrix").build();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(contentSearchIndex.canServe(pageable)).thenReturn(true);
+        when(contentSearchIndex.search(request, pageable))
+            .thenReturn(new ContentSearchIndex.SearchHits(List.of(1L), 1));
+        when(contentStore.findResponsesByIds(List.of(1L), ContentField.ALL)).thenReturn(List.of(contentResponse));
+        
+        // When
+        Page<ContentResponseDTO> result = contentService.searchContent(request, pageable);
+        
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals("The Matrix", result.getContent().get(0).title());
+        verify(contentStore, never()).findPage(any(), any(), any());
+    }
+    
+    @Test
+    void searchContent_WhenRepeatedWithEquivalentFilter_ShouldServeCachedPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        when(contentSearchIndex.canServe(pageable)).thenReturn(false);
+        when(contentStore.findPage(any(), eq(ContentField.ALL), eq(pageable)))
+            .thenReturn(new PageImpl<>(List.of(contentResponse), pageable, 1));
+        
+        // When
+        contentService.searchContent(SearchRequestDTO.builder().title("Matrix").build(), pageable);
+        Page<ContentResponseDTO> result = contentService.searchContent(SearchRequestDTO.builder().title("MATRIX").build(), pageable);
+        
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(contentStore, times(1)).findPage(any(), any(), any());
+    }
+    
+    @Test
+    void getContentById_WhenCached_ShouldNotQueryRepository() {
+        // Given
+        ContentResponseDTO cached = ContentResponseDTO.builder().id(1L).title("The Matrix").build();
+        when(contentCache.get(eq(1L), any())).thenReturn(cached);
+        
+        // When
+        ContentResponseDTO result = contentService.getContentById(1L);
+        
+        // Then
+        assertSame(cached, result);
+        verify(contentStore, never()).findResponseById(any(), any());
+    }
+    
+    @Test
+    void getAllContentByCursor_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // Given
+        KeysetPosition first = KeysetPosition.first(KeysetSort.RATING, Sort.Direction.DESC);
+        when(contentStore.findSlice(null, first, 1))
+            .thenReturn(new SliceImpl<>(List.of(content), PageRequest.of(0, 1), true));
+        
+        // When
+        CursorPageDTO<ContentResponseDTO> result = contentService.getAllContentByCursor(
+            null, Sort.by(Sort.Direction.DESC, "rating"), 1);
+        
+        // Then
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
+        assertEquals("The Matrix", result.content().get(0).title());
+        
+        // When
+        KeysetPosition next = new KeysetPosition(KeysetSort.RATING, Sort.Direction.DESC, 8.7, 1L);
+        when(contentStore.findSlice(null, next, 1))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+        CursorPageDTO<ContentResponseDTO> last = contentService.getAllContentByCursor(
+            result.nextCursor(), Sort.unsorted(), 1);
+        
+        // Then
+        assertFalse(last.hasNext());
+        assertNull(last.nextCursor());
+    }
+    
+    @Test
+    void getContentByIds_ShouldKeepRequestOrderAndReportMissingIds() {
+        // Given
+        ContentResponseDTO other = ContentResponseDTO.builder().id(2L).title("Dark").contentType(ContentType.SERIES).build();
+        when(contentCache.getAll(any(), any())).thenAnswer(invocation -> {
+            Function<Set<Long>, Map<Long, ContentResponseDTO>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        when(contentStore.findResponsesByIds(Set.of(2L, 1L, 3L), ContentField.ALL))
+            .thenReturn(List.of(contentResponse, other));
+        
+        // When
+        BatchGetResponseDTO result = contentService.getContentByIds(List.of(2L, 3L, 1L, 2L));
+        
+        // Then
+        assertEquals(List.of(2L, 1L), result.content().stream().map(ContentResponseDTO::id).toList());
+        assertEquals(List.of(3L), result.missingIds());
+        verify(contentStore, never()).findResponseById(any(), any());
+    }
+    
+    @Test
+    void getContentByIds_WithNullId_ShouldRejectBeforeLoading() {
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> contentService.getContentByIds(Arrays.asList(1L, null, 2L)));
+        verifyNoInteractions(contentCache, contentStore);
+    }
+    
+    private void passThroughCache() {
+        when(contentCache.get(any(), any())).thenAnswer(invocation -> {
+            Function<Long, ContentResponseDTO> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
     }
 }
-
@@ -0,0 +1,86 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentPatchDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.exception.WriteBufferFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentWriteBufferTest {
+
+    @Mock
+    private ContentService contentService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContentWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // batch-size alto: o flush só acontece quando o teste chama
+        buffer = new ContentWriteBuffer(contentService, meterRegistry, 100, 2, false);
+    }
+
+    @Test
+    void flush_ShouldCoalesceUpdatesToTheSameIdIntoOneWrite() throws Exception {
+        // Given
+        ContentResponseDTO written = ContentResponseDTO.builder().id(1L).rating(9.0).totalEpisodes(10).build();
+        when(contentService.patchContent(Map.of(1L, ContentPatchDTO.builder().rating(9.0).totalEpisodes(10).build())))
+            .thenReturn(Map.of(1L, written));
+
+        // When
+        CompletableFuture<ContentResponseDTO> first = buffer.submit(1L, ContentPatchDTO.builder().rating(8.0).totalEpisodes(10).build());
+        CompletableFuture<ContentResponseDTO> second = buffer.submit(1L, ContentPatchDTO.builder().rating(9.0).build());
+        buffer.flush();
+
+        // Then
+        assertSame(written, first.get());
+        assertSame(written, second.get());
+        verify(contentService, times(1)).patchContent(any());
+        assertEquals(1.0, meterRegistry.get("catalog.write-buffer.coalesced").counter().count());
+    }
+
+    @Test
+    void flush_WhenContentIsMissing_ShouldFailOnlyItsUpdate() throws Exception {
+        // Given
+        ContentResponseDTO written = ContentResponseDTO.builder().id(1L).rating(9.0).build();
+        when(contentService.patchContent(any())).thenReturn(Map.of(1L, written));
+
+        // When
+        CompletableFuture<ContentResponseDTO> found = buffer.submit(1L, ContentPatchDTO.builder().rating(9.0).build());
+        CompletableFuture<ContentResponseDTO> missing = buffer.submit(99L, ContentPatchDTO.builder().rating(9.0).build());
+        buffer.flush();
+
+        // Then
+        assertSame(written, found.get());
+        ExecutionException error = assertThrows(ExecutionException.class, missing::get);
+        assertInstanceOf(ContentNotFoundException.class, error.getCause());
+    }
+
+    @Test
+    void submit_WhenBufferIsFull_ShouldRejectNewIdsButCoalescePendingOnes() {
+        // Given
+        buffer.submit(1L, ContentPatchDTO.builder().rating(9.0).build());
+        buffer.submit(2L, ContentPatchDTO.builder().rating(9.0).build());
+
+        // When & Then
+        assertThrows(WriteBufferFullException.class, () -> buffer.submit(3L, ContentPatchDTO.builder().rating(9.0).build()));
+        assertDoesNotThrow(() -> buffer.submit(1L, ContentPatchDTO.builder().rating(7.0).build()));
+        assertEquals(1.0, meterRegistry.get("catalog.write-buffer.rejected").counter().count());
+        verifyNoInteractions(contentService);
+    }
+}
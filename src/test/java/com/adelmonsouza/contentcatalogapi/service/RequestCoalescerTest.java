@@ -0,0 +1,279 @@
+package com.adelmonsouza.contentcatalogapi.service;
+
+import com.adelmonsouza.contentcatalogapi.cache.SearchGenerations;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.exception.ContentNotFoundException;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SearchGenerations searchGenerations = new SearchGenerations();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, searchGenerations, true, Duration.ofSeconds(5));
+
+    @Test
+    void execute_WhenIdenticalCallsOverlap_ShouldShareOneExecution() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "The Matrix";
+        };
+        List<AtomicReference<String>> results = new ArrayList<>();
+        Thread leader = call(coalescer, "getContentById", 1L, loader, results);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(call(coalescer, "getContentById", 1L, loader, results));
+        }
+        followers.forEach(RequestCoalescerTest::awaitWaiting);
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // Then
+        assertEquals(1, executions.get());
+        results.forEach(result -> assertEquals("The Matrix", result.get()));
+        assertEquals(5.0, count("getContentById", "coalesced"));
+        assertEquals(1.0, count("getContentById", "leader"));
+    }
+
+    @Test
+    void execute_WithDifferentKey_ShouldNotWaitForOtherFlight() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = call(coalescer, "getContentById", 1L, () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }, new ArrayList<>());
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        String result = coalescer.execute("getContentById", 2L, () -> "fast");
+        release.countDown();
+        slow.join();
+
+        // Then
+        assertEquals("fast", result);
+        assertEquals(2.0, count("getContentById", "leader"));
+    }
+
+    @Test
+    void execute_WhenLeaderExceedsTimeout_ShouldLoadOnItsOwn() throws Exception {
+        // Given
+        RequestCoalescer shortTimeout = new RequestCoalescer(meterRegistry, searchGenerations, true, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = call(shortTimeout, "searchContent", "genre=Drama", () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }, new ArrayList<>());
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        String result = shortTimeout.execute("searchContent", "genre=Drama", () -> "own");
+        release.countDown();
+        slow.join();
+
+        // Then
+        assertEquals("own", result);
+        assertEquals(1.0, count("searchContent", "timeout"));
+    }
+
+    @Test
+    void execute_WhenLeaderFails_ShouldRethrowToFollowers() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            started.countDown();
+            await(release);
+            throw new ContentNotFoundException("Content not found with id: 999");
+        };
+        Thread leader = call(coalescer, "getContentById", 999L, loader, new ArrayList<>());
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                coalescer.execute("getContentById", 999L, loader);
+            } catch (RuntimeException ex) {
+                failure.set(ex);
+            }
+        });
+        follower.start();
+        awaitWaiting(follower);
+
+        // When
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // Then
+        assertInstanceOf(ContentNotFoundException.class, failure.get());
+    }
+
+    @Test
+    void executeForContent_AfterCommittedChange_ShouldNotJoinEarlierFlight() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread stale = new Thread(() -> coalescer.executeForContent("getContentById", 1L, 1L, () -> {
+            started.countDown();
+            await(release);
+            return "before";
+        }));
+        stale.start();
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        coalescer.onContentChanged(ContentChangedEvent.deleted(1L, null));
+        String result = coalescer.executeForContent("getContentById", 1L, 1L, () -> "after");
+        release.countDown();
+        stale.join();
+
+        // Then
+        assertEquals("after", result);
+    }
+
+    @Test
+    void executeForContent_AfterChangeToOtherId_ShouldStillJoinFlight() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> coalescer.executeForContent("getContentById", 1L, 1L, () -> {
+            started.countDown();
+            await(release);
+            return "The Matrix";
+        }));
+        leader.start();
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        coalescer.onContentChanged(ContentChangedEvent.deleted(2L, null));
+        AtomicReference<String> result = new AtomicReference<>();
+        Thread follower = new Thread(() ->
+            result.set(coalescer.executeForContent("getContentById", 1L, 1L, () -> "own")));
+        follower.start();
+        awaitWaiting(follower);
+
+        // When
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // Then
+        assertEquals("The Matrix", result.get());
+        assertEquals(1.0, count("getContentById", "coalesced"));
+    }
+
+    @Test
+    void executeForSearch_ShouldOnlySplitFlightsOfTheChangedGenre() throws Exception {
+        // Given
+        SearchRequestDTO drama = SearchRequestDTO.builder().genre("Drama").build();
+        SearchRequestDTO comedy = SearchRequestDTO.builder().genre("Comedy").build();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> leaders = new ArrayList<>();
+        for (SearchRequestDTO filter : List.of(drama, comedy)) {
+            Thread leader = new Thread(() -> coalescer.executeForSearch("searchContent", filter, filter, () -> {
+                started.countDown();
+                await(release);
+                return "before";
+            }));
+            leader.start();
+            leaders.add(leader);
+        }
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        searchGenerations.onContentChanged(ContentChangedEvent.created(
+            ContentResponseDTO.builder().id(3L).contentType(ContentType.MOVIE).genre("Drama").build()));
+        AtomicReference<String> comedyResult = new AtomicReference<>();
+        Thread comedyFollower = new Thread(() ->
+            comedyResult.set(coalescer.executeForSearch("searchContent", comedy, comedy, () -> "own")));
+        comedyFollower.start();
+        awaitWaiting(comedyFollower);
+
+        // When
+        String dramaResult = coalescer.executeForSearch("searchContent", drama, drama, () -> "after");
+        release.countDown();
+        for (Thread leader : leaders) {
+            leader.join();
+        }
+        comedyFollower.join();
+
+        // Then
+        assertEquals("after", dramaResult);
+        assertEquals("before", comedyResult.get());
+    }
+
+    @Test
+    void execute_WhenDisabled_ShouldAlwaysLoad() {
+        // Given
+        RequestCoalescer disabled = new RequestCoalescer(meterRegistry, searchGenerations, false, Duration.ofSeconds(1));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        disabled.execute("getContentById", 1L, executions::incrementAndGet);
+        disabled.execute("getContentById", 1L, executions::incrementAndGet);
+
+        // Then
+        assertEquals(2, executions.get());
+    }
+
+    private double count(String operation, String result) {
+        return meterRegistry.get("catalog.coalescing.requests")
+            .tag("operation", operation)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private static Thread call(RequestCoalescer coalescer, String operation, Object key, Supplier<String> loader,
+                               List<AtomicReference<String>> results) {
+        AtomicReference<String> result = new AtomicReference<>();
+        results.add(result);
+        Thread thread = new Thread(() -> result.set(coalescer.execute(operation, key, loader)));
+        thread.start();
+        return thread;
+    }
+
+    // Seguidores ficam parados no CompletableFuture do líder
+    private static void awaitWaiting(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(Thread.State.TIMED_WAITING, thread.getState());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentSnapshotTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void read_ShouldRestoreRowsWrittenFromExport() throws Exception {
+        // Given
+        ContentResponseDTO matrix = content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 8.7);
+        ContentResponseDTO amelie = content(4L, "Le Fabuleux Destin d'Amélie Poulain", ContentType.MOVIE, "Comédie", null);
+        ContentResponseDTO untitled = ContentResponseDTO.builder().id(2L).title("Untitled").build();
+        Path file = tempDir.resolve("catalog.snap");
+        try (OutputStream out = Files.newOutputStream(file);
+             ContentSnapshotWriter writer = new ContentSnapshotWriter(out, "feed-position")) {
+            writer.write(amelie);
+            writer.write(matrix);
+            writer.write(untitled);
+        }
+
+        // When
+        FileSystemResource resource = new FileSystemResource(file);
+        ContentSnapshot.Contents snapshot = ContentSnapshot.read(resource);
+        ContentColumns columns = snapshot.columns();
+
+        // Then
+        assertTrue(ContentSnapshot.isSnapshot(resource));
+        assertEquals("feed-position", snapshot.changesCursor());
+        assertEquals(3, columns.size);
+        assertEquals(matrix, columns.toResponse(0));
+        assertEquals(untitled, columns.toResponse(1));
+        assertEquals(amelie, columns.toResponse(2));
+        assertEquals(0, columns.genreCode("Comédie"));
+    }
+
+    @Test
+    void read_WhenChecksumDoesNotMatch_ShouldReject() throws Exception {
+        // Given
+        byte[] snapshot = snapshot(List.of(content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 8.7)));
+        snapshot[40] ^= 1;
+
+        // When & Then
+        ContentSnapshotException error = assertThrows(ContentSnapshotException.class,
+            () -> ContentSnapshot.read(new ByteArrayResource(snapshot)));
+        assertEquals("Snapshot checksum mismatch", error.getMessage());
+    }
+
+    @Test
+    void read_WhenVersionIsUnknown_ShouldReject() throws Exception {
+        // Given
+        byte[] snapshot = snapshot(List.of(content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 8.7)));
+        ByteBuffer.wrap(snapshot).order(ByteOrder.LITTLE_ENDIAN).putInt(8, ContentSnapshot.VERSION + 1);
+
+        // When & Then
+        ContentSnapshotException error = assertThrows(ContentSnapshotException.class,
+            () -> ContentSnapshot.read(ByteBuffer.wrap(snapshot)));
+        assertTrue(error.getMessage().startsWith("Unsupported snapshot version"));
+    }
+
+    @Test
+    void read_ShouldKeepTimeWriterWasOpenedNotClosed() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long beforeOpen = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        ContentSnapshotWriter writer = new ContentSnapshotWriter(out);
+        writer.write(content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 8.7));
+        Thread.sleep(5);
+        long beforeClose = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        writer.close();
+
+        // When
+        ContentSnapshot.Contents snapshot = ContentSnapshot.read(ByteBuffer.wrap(out.toByteArray()));
+
+        // Then
+        assertNull(snapshot.changesCursor());
+        assertTrue(snapshot.exportStartedAtMicros() >= beforeOpen);
+        assertTrue(snapshot.exportStartedAtMicros() < beforeClose);
+    }
+
+    private static byte[] snapshot(List<ContentResponseDTO> rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ContentSnapshotWriter writer = new ContentSnapshotWriter(out)) {
+            rows.forEach(writer::write);
+        }
+        return out.toByteArray();
+    }
+
+    private static ContentResponseDTO content(Long id, String title, ContentType type, String genre, Double rating) {
+        return ContentResponseDTO.builder()
+            .id(id)
+            .title(title)
+            .description(rating == null ? null : "Description " + id)
+            .contentType(type)
+            .genre(genre)
+            .releaseYear(2001)
+            .rating(rating)
+            .durationMinutes(122)
+            .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000))
+            .build();
+    }
+}
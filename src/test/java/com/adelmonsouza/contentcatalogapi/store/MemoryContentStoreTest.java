@@ -0,0 +1,162 @@
+package com.adelmonsouza.contentcatalogapi.store;
+
+import com.adelmonsouza.contentcatalogapi.changefeed.ContentChangeFeed;
+import com.adelmonsouza.contentcatalogapi.dto.ContentChangeDTO;
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.CursorPageDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SearchRequestDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.model.ContentType;
+import com.adelmonsouza.contentcatalogapi.repository.ContentField;
+import com.adelmonsouza.contentcatalogapi.repository.ContentRepository;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetPosition;
+import com.adelmonsouza.contentcatalogapi.repository.KeysetSort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryContentStoreTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private ContentChangeFeed changeFeed;
+
+    @TempDir
+    private Path tempDir;
+
+    private MemoryContentStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        // Fora de ordem de propósito: a carga ordena por id
+        List<ContentResponseDTO> rows = List.of(
+            content(3L, "Dark", ContentType.SERIES, "Sci-Fi", 2017, 8.8),
+            content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 1999, 8.7),
+            content(2L, "Matrix Reloaded", ContentType.MOVIE, "Sci-Fi", 2003, null),
+            content(4L, "Amélie", ContentType.MOVIE, "Comedy", 2001, 8.3)
+        );
+        StringBuilder ndjson = new StringBuilder();
+        for (ContentResponseDTO row : rows) {
+            ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+        }
+        Path snapshot = Files.writeString(tempDir.resolve("catalog.ndjson"), ndjson);
+
+        store = new MemoryContentStore(contentRepository, changeFeed, objectMapper, new DefaultResourceLoader(),
+            new SimpleMeterRegistry(), snapshot.toUri().toString(), "snapshot-position");
+        store.load();
+    }
+
+    @Test
+    void findPage_ShouldFilterAndSortLikePostgres() {
+        // Given
+        SearchRequestDTO filter = SearchRequestDTO.builder().title("matrix").genre("Sci-Fi").build();
+
+        // When
+        Page<ContentResponseDTO> page = store.findPage(filter, ContentField.ALL,
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rating")));
+
+        // Then
+        assertEquals(2, page.getTotalElements());
+        // DESC põe nulos primeiro, como o PostgreSQL
+        assertEquals(List.of(2L, 1L), page.map(ContentResponseDTO::id).getContent());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), page.getContent().get(1).updatedAt());
+        verifyNoInteractions(contentRepository);
+    }
+
+    @Test
+    void onContentChanged_ShouldApplyWritesToColumns() {
+        // When
+        store.onContentChanged(ContentChangedEvent.created(content(5L, "Up", ContentType.MOVIE, "Comedy", 2009, 8.3)));
+        store.onContentChanged(ContentChangedEvent.updated(
+            content(1L, "The Matrix", ContentType.MOVIE, "Sci-Fi", 1999, 8.7),
+            content(1L, "The Matrix", ContentType.MOVIE, "Action", 1999, 9.0)));
+        store.onContentChanged(ContentChangedEvent.deleted(3L, null));
+
+        // Then
+        assertTrue(store.findResponseById(3L, ContentField.ALL).isEmpty());
+        assertEquals("Action", store.findResponseById(1L, ContentField.ALL).orElseThrow().genre());
+        assertEquals(Map.of("Sci-Fi", 1L, "Comedy", 2L, "Action", 1L), store.countGroupedBy(null, ContentField.GENRE));
+        assertEquals(List.of(1L, 5L), store.findResponsesByIds(List.of(1L, 3L, 5L), ContentField.ALL).stream()
+            .map(ContentResponseDTO::id).toList());
+    }
+
+    @Test
+    void followChanges_ShouldApplyFeedFromSnapshotPosition() {
+        // Given
+        ContentResponseDTO rerated = content(2L, "Matrix Reloaded", ContentType.MOVIE, "Sci-Fi", 2003, 7.2);
+        when(changeFeed.read("snapshot-position", 1000)).thenReturn(new CursorPageDTO<>(List.of(
+            change(2L, ContentChangedEvent.ChangeType.UPDATED, rerated),
+            change(3L, ContentChangedEvent.ChangeType.DELETED, null)), 1000, false, "after-delete"));
+        when(changeFeed.read("after-delete", 1000)).thenReturn(new CursorPageDTO<>(List.of(), 1000, false, "after-delete"));
+
+        // When
+        store.followChanges();
+        store.followChanges();
+
+        // Then
+        assertEquals(7.2, store.findResponseById(2L, ContentField.ALL).orElseThrow().rating());
+        assertTrue(store.findResponseById(3L, ContentField.ALL).isEmpty());
+        verify(changeFeed).read("after-delete", 1000);
+        verify(changeFeed, never()).head();
+    }
+
+    @Test
+    void findSlice_ShouldPageByKeysetWithNullsLast() {
+        // Given
+        KeysetPosition first = KeysetPosition.first(KeysetSort.RATING, Sort.Direction.DESC);
+
+        // When
+        Slice<Content> firstSlice = store.findSlice(null, first, 2);
+        Content last = firstSlice.getContent().get(1);
+        Slice<Content> nextSlice = store.findSlice(null,
+            new KeysetPosition(KeysetSort.RATING, Sort.Direction.DESC, last.getRating(), last.getId()), 2);
+
+        // Then
+        assertEquals(List.of(3L, 1L), firstSlice.map(Content::getId).getContent());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(List.of(4L, 2L), nextSlice.map(Content::getId).getContent());
+        assertFalse(nextSlice.hasNext());
+    }
+
+    private static ContentChangeDTO change(Long id, ContentChangedEvent.ChangeType type, ContentResponseDTO content) {
+        return ContentChangeDTO.builder().contentId(id).type(type).content(content).build();
+    }
+
+    private static ContentResponseDTO content(Long id, String title, ContentType type, String genre, int year, Double rating) {
+        return ContentResponseDTO.builder()
+            .id(id)
+            .title(title)
+            .description("Description " + id)
+            .contentType(type)
+            .genre(genre)
+            .releaseYear(year)
+            .rating(rating)
+            .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789))
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.adelmonsouza.contentcatalogapi.suggest;
+
+import com.adelmonsouza.contentcatalogapi.dto.ContentResponseDTO;
+import com.adelmonsouza.contentcatalogapi.dto.SuggestionDTO;
+import com.adelmonsouza.contentcatalogapi.event.ContentChangedEvent;
+import com.adelmonsouza.contentcatalogapi.model.Content;
+import com.adelmonsouza.contentcatalogapi.store.ContentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSuggesterTest {
+
+    @Mock
+    private ContentStore contentStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        suggester = new TitleSuggester(contentStore, meterRegistry, true, 5, 16, 8);
+        when(contentStore.findSlice(isNull(), any(), anyInt())).thenReturn(new SliceImpl<>(List.of(
+            content(1L, "The Matrix", 8.7),
+            content(2L, "The Matrix Reloaded", 7.2),
+            content(3L, "Matrimônio à Italiana", 7.5),
+            content(4L, "Dark", 8.8)
+        )));
+        suggester.load();
+    }
+
+    @Test
+    void suggest_ShouldMatchAnyWordPrefixRankedByRating() {
+        // When
+        List<SuggestionDTO> suggestions = suggester.suggest("MATRI", 10);
+
+        // Then
+        assertEquals(List.of(1L, 3L, 2L), ids(suggestions));
+        assertTrue(suggestions.stream().noneMatch(SuggestionDTO::fuzzy));
+        assertEquals(List.of(3L), ids(suggester.suggest("matrimonio a", 10)));
+        verify(contentStore, never()).findPage(any(), any(), any());
+    }
+
+    @Test
+    void suggest_WithTypo_ShouldReturnCorrectedTitlesAsFuzzy() {
+        // When
+        List<SuggestionDTO> transposed = suggester.suggest("the matirx", 10);
+        List<SuggestionDTO> partial = suggester.suggest("mtari", 10);
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(transposed));
+        assertTrue(transposed.stream().allMatch(SuggestionDTO::fuzzy));
+        assertEquals(List.of(1L, 3L, 2L), ids(partial));
+        assertTrue(suggester.suggest("dak", 10).isEmpty());
+    }
+
+    @Test
+    void onContentChanged_ShouldUpdateSuggestionsIncrementally() {
+        // When
+        suggester.onContentChanged(ContentChangedEvent.updated(response(4L, "Dark", 8.8), response(4L, "Dark Matter", 9.0)));
+        suggester.onContentChanged(ContentChangedEvent.deleted(1L, response(1L, "The Matrix", 8.7)));
+
+        // Then
+        assertEquals(List.of(4L, 3L, 2L), ids(suggester.suggest("ma", 10)));
+        assertEquals(3.0, meterRegistry.get("catalog.suggest.titles").gauge().value());
+        assertTrue(meterRegistry.get("catalog.suggest.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void suggest_AfterManyWrites_ShouldMatchBruteForceTopK() {
+        // Given: títulos com prefixos em comum o bastante para dividir as folhas várias vezes
+        Random random = new Random(42);
+        String[] words = {"star", "stars", "start", "station", "stone", "storm", "story", "sun"};
+        List<ContentResponseDTO> live = new ArrayList<>();
+        for (long id = 100; id < 700; id++) {
+            ContentResponseDTO content = response(id,
+                words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + id,
+                random.nextInt(5) == 0 ? null : random.nextInt(100) / 10.0);
+            suggester.index(content);
+            live.add(content);
+        }
+        for (int i = 0; i < 300; i++) {
+            ContentResponseDTO removed = live.remove(random.nextInt(live.size()));
+            suggester.remove(removed.id());
+        }
+
+        // When & Then
+        for (String prefix : List.of("s", "st", "sta", "star", "stars s", "story st", "sun", "stone 1")) {
+            List<Long> expected = live.stream()
+                .filter(content -> (" " + TitleSuggester.normalize(content.title())).contains(" " + prefix))
+                .sorted(Comparator.comparing(ContentResponseDTO::rating, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ContentResponseDTO::id))
+                .limit(5)
+                .map(ContentResponseDTO::id)
+                .toList();
+            assertEquals(expected, ids(suggester.suggest(prefix, 5)), prefix);
+        }
+    }
+
+    private static List<Long> ids(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::id).toList();
+    }
+
+    private static Content content(Long id, String title, Double rating) {
+        return Content.builder().id(id).title(title).rating(rating).build();
+    }
+
+    private static ContentResponseDTO response(Long id, String title, Double rating) {
+        return ContentResponseDTO.builder().id(id).title(title).rating(rating).build();
+    }
+}